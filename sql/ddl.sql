@@ -14,7 +14,8 @@ create table user(
     create_date	    datetime		default     now()	       	comment '생성 시간',
     modified_date	datetime							        comment '수정 시간',
 
-    primary key (id)
+    primary key (id),
+    index idx_user_name (user_name)
 ) comment '사용자 관리 테이블' DEFAULT CHARSET=utf8mb4;
 
 drop table if exists token;
@@ -0,0 +1,65 @@
+package com.mmserver.config.security.jwt;
+
+import com.mmserver.config.security.UserInfo;
+import com.mmserver.domain.EnumType.RoleType;
+import com.mmserver.domain.model.Token;
+import com.mmserver.domain.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider 요청 경로 Benchmark
+ *
+ *  - createAccessToken : 로그인, 재발급 시 토큰 생성
+ *  - validateToken     : 요청마다 서명 검증
+ *  - getUserEmail      : 토큰에서 사용자 이메일 추출
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=JwtProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    /**
+     * Benchmark 용 Secret 값(HS256 이상 사용을 위해 32byte 이상)
+     */
+    private static final String SECRET = "mongmong-auction-benchmark-secret-key-0123456789";
+
+    private JwtProvider jwtProvider;
+
+    private UserInfo userInfo;
+
+    /**
+     * 검증용 Access Token
+     */
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtProvider = new JwtProvider(SECRET, "Authorization", "Bearer", false, Duration.ofMinutes(30), TokenClaims.COMPACT_VERSION, null, null, new SimpleMeterRegistry());
+        userInfo    = new UserInfo(User.ofPrincipal(1L, "benchmark@mongmong.com", RoleType.USER, "N"));
+        token       = jwtProvider.createAccessToken(userInfo).getToken();
+    }
+
+    @Benchmark
+    public Token createAccessToken() {
+        return jwtProvider.createAccessToken(userInfo);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserEmail() {
+        return jwtProvider.getUserEmail(token);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mmserver.config.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 경로 Benchmark
+ *
+ *  - doubleParse : 기존 방식(요청마다 Parser를 생성해서 validateToken, getUserEmail 에서 두번 검증)
+ *  - singleParse : Parser 재사용 + 한번만 검증 후 Claims 전달
+ *
+ * 실행 : ./gradlew jmh (GC Profiler를 통해 요청 당 할당량(gc.alloc.rate.norm) 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    /**
+     * Benchmark 용 Secret 값(HS256 이상 사용을 위해 32byte 이상)
+     */
+    private static final String SECRET = "mongmong-auction-benchmark-secret-key-0123456789";
+
+    private JwtProvider jwtProvider;
+
+    private Key secretKey;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtProvider = new JwtProvider(SECRET, "Authorization", "Bearer", false, Duration.ofMinutes(30), TokenClaims.COMPACT_VERSION, null, null, new SimpleMeterRegistry());
+        secretKey   = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+        Date now = new Date();
+        token = Jwts.builder()
+                .setSubject("benchmark@mongmong.com")
+                .claim("roles", "ROLE_USER")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofHours(1).toMillis()))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String doubleParse() {
+        // validateToken
+        Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+
+        // getAuthentication -> getUserEmail
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        Claims claims = jwtProvider.getClaims(token);
+
+        return claims.getSubject();
+    }
+}
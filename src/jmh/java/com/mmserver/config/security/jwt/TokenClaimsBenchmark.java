@@ -0,0 +1,76 @@
+package com.mmserver.config.security.jwt;
+
+import com.mmserver.config.security.UserInfo;
+import com.mmserver.domain.EnumType.RoleType;
+import com.mmserver.domain.model.Token;
+import com.mmserver.domain.model.User;
+import com.mmserver.utils.JwtUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 PayLoad 형식(v1, v2) 별 Benchmark
+ *
+ *  - createAccessToken : 토큰 생성
+ *  - parse             : 요청마다 서명 검증 후 PayLoad 변환
+ *  - decodePayload     : 재발급 시 서명 검증 없이 PayLoad 변환
+ *
+ * 토큰 크기(Authorization Header 값 byte)는 Setup 시 출력
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=TokenClaimsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenClaimsBenchmark {
+
+    /**
+     * Benchmark 용 Secret 값(HS256 이상 사용을 위해 32byte 이상)
+     */
+    private static final String SECRET = "mongmong-auction-benchmark-secret-key-0123456789";
+
+    /**
+     * 발급할 토큰의 PayLoad 형식 버전
+     */
+    @Param({"1", "2"})
+    private int claimVersion;
+
+    private JwtProvider jwtProvider;
+
+    private UserInfo userInfo;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtProvider = new JwtProvider(SECRET, "Authorization", "Bearer", false, Duration.ofMinutes(30), claimVersion, null, null, new SimpleMeterRegistry());
+        userInfo    = new UserInfo(User.ofPrincipal(1234567L, "benchmark.user@mongmong.com", RoleType.USER, "N"));
+        token       = jwtProvider.createAccessToken(userInfo).getToken();
+
+        System.out.printf("%nclaimVersion=%d, token=%d byte, header=%d byte%n", claimVersion,
+                token.getBytes(StandardCharsets.US_ASCII).length,
+                ("Bearer " + token).getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Benchmark
+    public Token createAccessToken() {
+        return jwtProvider.createAccessToken(userInfo);
+    }
+
+    @Benchmark
+    public TokenClaims parse() {
+        return TokenClaims.of(jwtProvider.getClaims(token));
+    }
+
+    @Benchmark
+    public TokenClaims decodePayload() {
+        return TokenClaims.of(JwtUtils.getPayloadByToken(token));
+    }
+}
@@ -0,0 +1,57 @@
+package com.mmserver.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import javax.servlet.http.Cookie;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.mmserver.config.security.oauth.OAuth2AuthorizationRequestRepository.REQUEST_COOKIE_KEY;
+
+/**
+ * CookieUtils Benchmark
+ *
+ *  - serialize   : OAuth2 로그인 요청 시 OAuth2AuthorizationRequest를 Cookie 값으로 변환
+ *  - deserialize : OAuth2 Callback 시 Cookie 값을 OAuth2AuthorizationRequest로 변환
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=CookieUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CookieUtilsBenchmark {
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+
+    private Cookie cookie;
+
+    @Setup
+    public void setup() {
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("benchmark-client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/kakao")
+                .scopes(Collections.singleton("account_email"))
+                .state(UUID.randomUUID().toString())
+                .attributes(attributes -> attributes.put(OAuth2ParameterNames.REGISTRATION_ID, "kakao"))
+                .build();
+
+        cookie = new Cookie(REQUEST_COOKIE_KEY, CookieUtils.serialize(authorizationRequest));
+    }
+
+    @Benchmark
+    public String serialize() {
+        return CookieUtils.serialize(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest deserialize() {
+        return CookieUtils.deserialize(cookie, OAuth2AuthorizationRequest.class);
+    }
+}
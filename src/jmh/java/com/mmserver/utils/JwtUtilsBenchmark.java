@@ -0,0 +1,53 @@
+package com.mmserver.utils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtils Benchmark
+ *
+ *  - getPayloadByToken : 재발급 시 만료된 토큰에서 서명 검증 없이 PayLoad 추출
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=JwtUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    /**
+     * Benchmark 용 Secret 값(HS256 이상 사용을 위해 32byte 이상)
+     */
+    private static final String SECRET = "mongmong-auction-benchmark-secret-key-0123456789";
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        Date now = new Date();
+        token = Jwts.builder()
+                .setSubject("benchmark@mongmong.com")
+                .claim("roles", "ROLE_USER")
+                .claim("uid", 1L)
+                .claim("role", "USER")
+                .claim("lock", "N")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofHours(1).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+
+    @Benchmark
+    public Map<String, Object> getPayloadByToken() {
+        return JwtUtils.getPayloadByToken(token);
+    }
+}
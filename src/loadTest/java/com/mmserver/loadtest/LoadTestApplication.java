@@ -0,0 +1,114 @@
+package com.mmserver.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mmserver.MongServerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행
+ *
+ *  - 내장 Redis, MariaDB 실행 후 애플리케이션 실행(임의 Port)
+ *  - 가상 사용자로 인증 흐름 반복 후 결과를 JSON 파일로 저장
+ *
+ * System Property
+ *  - loadtest.flow      : 반복할 흐름(기본 auth, login, read)
+ *  - loadtest.users     : 가상 사용자 수(기본 50)
+ *  - loadtest.warmup    : 준비 시간(기본 PT10S, 집계 제외)
+ *  - loadtest.duration  : 측정 시간(기본 PT60S)
+ *  - loadtest.label     : 결과 파일 이름(기본 loadtest)
+ *  - loadtest.reportDir : 결과 저장 경로(기본 build/reports/loadtest)
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        String flow       = System.getProperty("loadtest.flow", "auth");
+        int users         = Integer.getInteger("loadtest.users", 50);
+        Duration warmup   = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+        String label      = System.getProperty("loadtest.label", "loadtest");
+        Path reportDir    = Paths.get(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+        Map<String, Object> steps;
+
+        try (LocalStandIns standIns = LocalStandIns.start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(MongServerApplication.class)
+                     .properties(properties(standIns))
+                     .run(args)) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            steps = new LoadTestDriver(baseUrl, flow, users, warmup, duration).run();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label",    label);
+        report.put("date",     LocalDateTime.now().toString());
+        report.put("java",     System.getProperty("java.version"));
+        report.put("virtualThreads", Boolean.getBoolean("server.virtualThreads.enabled"));
+        report.put("flow",     flow);
+        report.put("users",    users);
+        report.put("warmup",   warmup.toString());
+        report.put("duration", duration.toString());
+        report.put("steps",    steps);
+
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve(label + ".json");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(steps));
+        System.out.println("부하 테스트 결과 : " + file.toAbsolutePath());
+    }
+
+    /**
+     * 내장 Redis, MariaDB 접속 정보 및 부하 테스트용 설정
+     * (secret Profile 없이 실행 가능하도록 필수 값 지정)
+     */
+    private static Map<String, Object> properties(LocalStandIns standIns) {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+
+        properties.put("spring.datasource.url",               standIns.getJdbcUrl());
+        properties.put("spring.datasource.username",          "root");
+        properties.put("spring.datasource.password",          "");
+        properties.put("spring.datasource.driver-class-name", "org.mariadb.jdbc.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto",       "none");
+
+        properties.put("spring.redis.host", "localhost");
+        properties.put("spring.redis.port", standIns.getRedisPort());
+
+        properties.put("jwt.secretKeyHash",         Base64.getEncoder().encodeToString(secret));
+        properties.put("jwt.responseHeader",        "Authorization");
+        properties.put("jwt.prefix",                "Bearer");
+        properties.put("jwt.accessTokenExpireTime", "30m");
+
+        // OAuth2 로그인은 부하 대상이 아니므로 실행에 필요한 등록 정보만 지정
+        properties.put("spring.security.oauth2.client.registration.kakao.client-id",                "loadtest");
+        properties.put("spring.security.oauth2.client.registration.kakao.authorization-grant-type", "authorization_code");
+        properties.put("spring.security.oauth2.client.registration.kakao.redirect-uri",             "{baseUrl}/login/oauth2/code/{registrationId}");
+        properties.put("spring.security.oauth2.client.provider.kakao.authorization-uri",            "http://localhost/oauth/authorize");
+        properties.put("spring.security.oauth2.client.provider.kakao.token-uri",                    "http://localhost/oauth/token");
+        properties.put("spring.security.oauth2.client.provider.kakao.user-info-uri",                "http://localhost/v2/user/me");
+        properties.put("spring.security.oauth2.client.provider.kakao.user-name-attribute",          "id");
+
+        properties.put("logging.level.root", "WARN");
+
+        return properties;
+    }
+}
@@ -0,0 +1,90 @@
+package com.mmserver.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 처리 방식(Platform Thread Pool, 가상 Thread) 부하 테스트 결과 비교
+ *
+ *  - {flow}-platform.json, {flow}-virtual.json 결과를 단계 별로 비교
+ *  - 결과 : {loadtest.reportDir}/comparison.json
+ *
+ * System Property
+ *  - loadtest.flows     : 비교할 흐름(기본 login,read)
+ *  - loadtest.reportDir : 결과 저장 경로(기본 build/reports/loadtest)
+ */
+public class LoadTestComparison {
+
+    public static void main(String[] args) throws Exception {
+        String[] flows = System.getProperty("loadtest.flows", "login,read").split(",");
+        Path reportDir = Paths.get(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Object> comparison = new LinkedHashMap<>();
+
+        for(String flow : flows) {
+            JsonNode platform = objectMapper.readTree(reportDir.resolve(flow + "-platform.json").toFile()).get("steps");
+            JsonNode virtual  = objectMapper.readTree(reportDir.resolve(flow + "-virtual.json").toFile()).get("steps");
+
+            Map<String, Object> steps = new LinkedHashMap<>();
+
+            for(Iterator<String> names = platform.fieldNames(); names.hasNext(); ) {
+                String step = names.next();
+                JsonNode before = platform.get(step);
+                JsonNode after  = virtual.get(step);
+
+                // 측정 시간 동안 요청이 없는 단계(준비 단계의 회원가입 등) 제외
+                if(after == null || before.get("requests").asLong() == 0) {
+                    continue;
+                }
+
+                steps.put(step, compare(before, after));
+            }
+
+            comparison.put(flow, steps);
+        }
+
+        Path file = reportDir.resolve("comparison.json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), comparison);
+
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(comparison));
+        System.out.println("비교 결과 : " + file.toAbsolutePath());
+    }
+
+    /**
+     * 단계 별 처리량, 오류율, 응답 시간 비교
+     *
+     * @param  platform            : Platform Thread Pool 결과
+     * @param  virtual             : 가상 Thread 결과
+     * @return Map<String, Object> : 비교 결과(ratio => 가상 Thread / Platform Thread Pool)
+     */
+    private static Map<String, Object> compare(JsonNode platform, JsonNode virtual) {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        for(String field : new String[] {"throughput", "errorRate"}) {
+            result.put(field, pair(platform.get(field).asDouble(), virtual.get(field).asDouble()));
+        }
+
+        for(String percentile : new String[] {"p50", "p99", "p99.9"}) {
+            result.put(percentile + "Ms", pair(platform.get("latencyMs").get(percentile).asDouble(),
+                                               virtual.get("latencyMs").get(percentile).asDouble()));
+        }
+
+        return result;
+    }
+
+    private static Map<String, Object> pair(double platform, double virtual) {
+        Map<String, Object> pair = new LinkedHashMap<>();
+        pair.put("platform", platform);
+        pair.put("virtual",  virtual);
+        pair.put("ratio",    platform > 0 ? virtual / platform : null);
+
+        return pair;
+    }
+}
@@ -0,0 +1,263 @@
+package com.mmserver.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 가상 사용자 부하 생성
+ *
+ *  - 가상 사용자마다 회원가입 1회 후, 측정 시간 동안 흐름 반복
+ *    - auth  : 로그인 => 사용자 조회 => Access Token 재발급 => 로그아웃
+ *    - login : 로그인
+ *    - read  : (로그인 1회 후) 사용자 조회
+ *  - 준비 시간(warmup) 동안의 요청은 집계에서 제외
+ */
+public class LoadTestDriver {
+
+    /**
+     * 흐름 단계
+     */
+    public static final String[] STEPS = {"signup", "login", "user", "reissue", "logout"};
+
+    private static final String AUTHORIZATION = "Authorization";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient client;
+
+    private final String baseUrl;
+
+    private final String flow;
+
+    private final int users;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    /**
+     * 단계 별 집계
+     */
+    private final Map<String, StepStats> stats = new LinkedHashMap<>();
+
+    private volatile long measureStartNanos;
+
+    /**
+     * 생성자
+     *
+     * @param baseUrl  : 애플리케이션 주소
+     * @param flow     : 반복할 흐름(auth, login, read)
+     * @param users    : 가상 사용자 수
+     * @param warmup   : 준비 시간
+     * @param duration : 측정 시간
+     */
+    public LoadTestDriver(String baseUrl, String flow, int users, Duration warmup, Duration duration) {
+        if(!"auth".equals(flow) && !"login".equals(flow) && !"read".equals(flow)) {
+            throw new IllegalArgumentException("지원하지 않는 흐름입니다. : " + flow);
+        }
+
+        this.baseUrl  = baseUrl;
+        this.flow     = flow;
+        this.users    = users;
+        this.warmup   = warmup;
+        this.duration = duration;
+        this.client   = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        for(String step : STEPS) {
+            stats.put(step, new StepStats());
+        }
+    }
+
+    /**
+     * 부하 생성 후 단계 별 집계 반환
+     *
+     * @return Map<String, Object> : 단계 별 집계
+     */
+    public Map<String, Object> run() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        measureStartNanos = startNanos + warmup.toNanos();
+        long endNanos = measureStartNanos + duration.toNanos();
+
+        CountDownLatch done = new CountDownLatch(users);
+        List<Thread> threads = new ArrayList<>(users);
+
+        for(int i = 0; i < users; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    new VirtualUser().run(endNanos);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-user-" + i);
+
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+
+        threads.forEach(Thread::start);
+        done.await();
+
+        double seconds = (System.nanoTime() - measureStartNanos) / 1e9;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        stats.forEach((step, stat) -> result.put(step, stat.summary(seconds)));
+
+        return result;
+    }
+
+    /**
+     * 가상 사용자
+     */
+    private class VirtualUser {
+
+        private final String email = "load-" + UUID.randomUUID() + "@mongmong.test";
+
+        private final String password = UUID.randomUUID().toString();
+
+        private final String userName = "load-" + UUID.randomUUID().toString().substring(0, 8);
+
+        void run(long endNanos) {
+            HttpResponse<String> signup = send("signup", HttpRequest.newBuilder(uri("/signup"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json(Map.of(
+                            "email",    email,
+                            "password", password,
+                            "userName", userName)))));
+
+            if(signup == null || signup.statusCode() != 201) {
+                return;
+            }
+
+            if("read".equals(flow)) {
+                read(endNanos);
+                return;
+            }
+
+            while (System.nanoTime() < endNanos) {
+                HttpResponse<String> login = login();
+
+                if("login".equals(flow) || login == null || login.statusCode() != 200) {
+                    continue;
+                }
+
+                String accessToken = login.headers().firstValue(AUTHORIZATION).orElse(null);
+                String id = readId(login.body());
+
+                if(accessToken == null || id == null) {
+                    continue;
+                }
+
+                send("user", HttpRequest.newBuilder(uri("/user/" + id)).header(AUTHORIZATION, accessToken).GET());
+
+                HttpResponse<String> reissue = send("reissue", HttpRequest.newBuilder(uri("/reissue"))
+                        .header(AUTHORIZATION, accessToken)
+                        .POST(HttpRequest.BodyPublishers.noBody()));
+
+                if(reissue != null && reissue.statusCode() == 200) {
+                    accessToken = reissue.headers().firstValue(AUTHORIZATION).orElse(accessToken);
+                }
+
+                send("logout", HttpRequest.newBuilder(uri("/logout?email=" + encode(email))).header(AUTHORIZATION, accessToken).DELETE());
+            }
+        }
+
+        /**
+         * 로그인 1회 후 사용자 조회 반복
+         */
+        private void read(long endNanos) {
+            HttpResponse<String> login = login();
+
+            if(login == null || login.statusCode() != 200) {
+                return;
+            }
+
+            String accessToken = login.headers().firstValue(AUTHORIZATION).orElse(null);
+            String id = readId(login.body());
+
+            if(accessToken == null || id == null) {
+                return;
+            }
+
+            while (System.nanoTime() < endNanos) {
+                send("user", HttpRequest.newBuilder(uri("/user/" + id)).header(AUTHORIZATION, accessToken).GET());
+            }
+        }
+
+        private HttpResponse<String> login() {
+            return send("login", HttpRequest.newBuilder(uri("/login?email=" + encode(email) + "&password=" + encode(password))).GET());
+        }
+
+        /**
+         * 요청 전송, 결과 기록
+         *
+         * @param  step                 : 흐름 단계
+         * @param  builder              : 요청
+         * @return HttpResponse<String> : 응답(연결 실패 => null)
+         */
+        private HttpResponse<String> send(String step, HttpRequest.Builder builder) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = null;
+
+            try {
+                response = client.send(builder.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                // 연결 실패는 상태 0으로 기록
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if(start >= measureStartNanos) {
+                int status = response != null ? response.statusCode() : 0;
+                stats.get(step).record(status, status >= 200 && status < 300, System.nanoTime() - start);
+            }
+
+            return response;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String readId(String body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+
+            return id != null && !id.isNull() ? id.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
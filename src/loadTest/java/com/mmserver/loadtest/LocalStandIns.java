@@ -0,0 +1,93 @@
+package com.mmserver.loadtest;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트용 로컬 Redis, MariaDB
+ *
+ *  - 실행 파일은 의존성 jar에 포함되어 있어서 외부 접속 없이 실행
+ *  - MariaDB는 sql/ddl.sql로 테이블 생성
+ *  - 데이터는 임시 디렉터리에 저장하고 종료 시 삭제
+ */
+public class LocalStandIns implements AutoCloseable {
+
+    /**
+     * 데이터베이스 이름
+     */
+    public static final String DATABASE = "mongmong";
+
+    private final RedisServer redis;
+
+    private final DB mariaDB;
+
+    private final int redisPort;
+
+    private final int mariaDBPort;
+
+    private LocalStandIns(RedisServer redis, int redisPort, DB mariaDB, int mariaDBPort) {
+        this.redis       = redis;
+        this.redisPort   = redisPort;
+        this.mariaDB     = mariaDB;
+        this.mariaDBPort = mariaDBPort;
+    }
+
+    /**
+     * Redis, MariaDB 실행
+     *
+     * @return LocalStandIns : 실행된 Redis, MariaDB
+     */
+    public static LocalStandIns start() throws Exception {
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        try {
+            Path dataDir = Files.createTempDirectory("loadtest-mariadb");
+
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(0);
+            config.setDataDir(dataDir.toString());
+            config.setDeletingTemporaryBaseAndDataDirsOnShutdown(true);
+
+            DB mariaDB = DB.newEmbeddedDB(config.build());
+            mariaDB.start();
+            mariaDB.createDB(DATABASE);
+            mariaDB.source("ddl.sql", "root", null, DATABASE);
+
+            return new LocalStandIns(redis, redisPort, mariaDB, mariaDB.getConfiguration().getPort());
+        } catch (Exception e) {
+            redis.stop();
+            throw e;
+        }
+    }
+
+    public int getRedisPort() {
+        return redisPort;
+    }
+
+    public String getJdbcUrl() {
+        return "jdbc:mariadb://localhost:" + mariaDBPort + "/" + DATABASE;
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            mariaDB.stop();
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.mmserver.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 흐름 단계 별 응답 시간, 응답 상태 집계
+ * (여러 가상 사용자 Thread에서 동시에 기록)
+ */
+public class StepStats {
+
+    /**
+     * 응답 시간(마이크로초)
+     */
+    private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+
+    /**
+     * 응답 상태 별 횟수(연결 실패 => 0)
+     */
+    private final ConcurrentHashMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * 요청 결과 기록
+     *
+     * @param status      : 응답 상태
+     * @param success     : 성공 여부
+     * @param elapsedNanos : 응답 시간
+     */
+    public void record(int status, boolean success, long elapsedNanos) {
+        latency.recordValue(Math.min(latency.getHighestTrackableValue(), TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+
+        if(!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 집계 결과
+     *
+     * @param  seconds             : 측정 시간(초)
+     * @return Map<String, Object> : 요청 수, 처리량, 오류율, 응답 시간 백분위(ms)
+     */
+    public Map<String, Object> summary(double seconds) {
+        long count = latency.getTotalCount();
+
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("mean",  millis(latency.getMean()));
+        percentiles.put("p50",   millis(latency.getValueAtPercentile(50)));
+        percentiles.put("p90",   millis(latency.getValueAtPercentile(90)));
+        percentiles.put("p99",   millis(latency.getValueAtPercentile(99)));
+        percentiles.put("p99.9", millis(latency.getValueAtPercentile(99.9)));
+        percentiles.put("max",   millis(latency.getMaxValue()));
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        statuses.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> statusCounts.put(String.valueOf(entry.getKey()), entry.getValue().sum()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests",   count);
+        summary.put("throughput", seconds > 0 ? count / seconds : 0);
+        summary.put("errors",     errors.sum());
+        summary.put("errorRate",  count > 0 ? (double) errors.sum() / count : 0);
+        summary.put("latencyMs",  percentiles);
+        summary.put("statuses",   statusCounts);
+
+        return summary;
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
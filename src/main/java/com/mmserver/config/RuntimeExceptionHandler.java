@@ -84,4 +84,74 @@ public class RuntimeExceptionHandler {
 
         return e.getMessage();
     }
+
+    /**
+     * {@link TooManyRequestsException} 예외 처리
+     * @param e {@link TooManyRequestsException} 객체
+     * @return String : message
+     */
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public String tooManyRequestsExceptionHandler(TooManyRequestsException e) {
+        log.error("Status : {}", HttpStatus.TOO_MANY_REQUESTS);
+        log.error("Error Message : {}", e.getMessage());
+
+        return e.getMessage();
+    }
+
+    /**
+     * {@link LockedAccountException} 예외 처리
+     * @param e {@link LockedAccountException} 객체
+     * @return String : message
+     */
+    @ResponseStatus(HttpStatus.LOCKED)
+    @ExceptionHandler(LockedAccountException.class)
+    public String lockedAccountExceptionHandler(LockedAccountException e) {
+        log.error("Status : {}", HttpStatus.LOCKED);
+        log.error("Error Message : {}", e.getMessage());
+
+        return e.getMessage();
+    }
+
+    /**
+     * {@link NotFoundItemException} 예외 처리
+     * @param e {@link NotFoundItemException} 객체
+     * @return String : message
+     */
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    @ExceptionHandler(NotFoundItemException.class)
+    public String notFoundItemExceptionHandler(NotFoundItemException e) {
+        log.error("Status : {}", HttpStatus.NOT_FOUND);
+        log.error("Error Message : {}", e.getMessage());
+
+        return e.getMessage();
+    }
+
+    /**
+     * {@link InvalidBidException} 예외 처리
+     * @param e {@link InvalidBidException} 객체
+     * @return String : message
+     */
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(InvalidBidException.class)
+    public String invalidBidExceptionHandler(InvalidBidException e) {
+        log.info("Status : {}", HttpStatus.CONFLICT);
+        log.info("Error Message : {}", e.getMessage());
+
+        return e.getMessage();
+    }
+
+    /**
+     * {@link BidNotSavedException} 예외 처리
+     * @param e {@link BidNotSavedException} 객체
+     * @return String : message
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(BidNotSavedException.class)
+    public String bidNotSavedExceptionHandler(BidNotSavedException e) {
+        log.error("Status : {}", HttpStatus.SERVICE_UNAVAILABLE);
+        log.error("Error Message : {}", e.getMessage());
+
+        return e.getMessage();
+    }
 }
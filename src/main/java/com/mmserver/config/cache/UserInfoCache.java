@@ -0,0 +1,183 @@
+package com.mmserver.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mmserver.config.security.UserInfo;
+import com.mmserver.config.security.UserStateRegistry;
+import com.mmserver.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 사용자 정보(UserInfo) Near Cache
+ *
+ *  - 노드 내 메모리에 이메일 별 UserInfo 저장(TTL, 최대 개수 제한)
+ *  - 동일한 이메일에 대한 동시 조회는 한번만 DB 조회(Stampede 방지)
+ *  - DB 조회는 Lock(synchronized) 밖에서 실행(가상 Thread 고정 방지)
+ *  - 사용자 정보 변경 시, Redis Pub/Sub을 통해 모든 노드의 캐시 무효화
+ */
+@Slf4j
+@Component
+public class UserInfoCache implements MessageListener {
+
+    /**
+     * 캐시 무효화 Redis Channel
+     */
+    public static final String INVALIDATE_CHANNEL = "user:invalidate";
+
+    /**
+     * JWT Claims에 포함된 정보(잠금, 권한)가 변경된 경우 메시지 Prefix
+     */
+    private static final String STATE_PREFIX = "S:";
+
+    /**
+     * 그 외 정보(포인트 등)가 변경된 경우 메시지 Prefix
+     */
+    private static final String INFO_PREFIX = "I:";
+
+    /**
+     * 이메일 별 사용자 정보
+     */
+    private final Cache<String, UserInfo> cache;
+
+    /**
+     * 동일한 이메일에 대한 동시 조회를 하나로 합치기 위한 Util
+     */
+    private final SingleFlight<String, UserInfo> loads = new SingleFlight<>();
+
+    /**
+     * 무효화 횟수
+     * (조회 중에 무효화된 경우, 조회 결과를 저장하지 않기 위해 사용)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Redis 메시지 발행을 위한 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자 상태 변경 관리 Component
+     */
+    private final UserStateRegistry userStateRegistry;
+
+    /**
+     * 생성자
+     *
+     * @param maximumSize      : 최대 저장 개수
+     * @param expireAfterWrite : 저장 후 만료 시간
+     */
+    public UserInfoCache(@Value("${cache.userInfo.maximumSize:10000}") long maximumSize,
+                         @Value("${cache.userInfo.expireAfterWrite:5m}") Duration expireAfterWrite,
+                         StringRedisTemplate redisTemplate,
+                         UserStateRegistry userStateRegistry,
+                         RedisMessageListenerContainer listenerContainer,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        this.redisTemplate     = redisTemplate;
+        this.userStateRegistry = userStateRegistry;
+
+        // Hit, Miss, Eviction 지표 등록(cache.gets, cache.evictions ...)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userInfo");
+
+        // 다른 노드의 무효화 메시지 수신
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 사용자 정보 조회
+     * 캐시에 없는 경우 loader를 통해 조회 후 저장
+     *
+     * Caffeine의 get(key, loader)는 ConcurrentHashMap.compute 안(synchronized)에서 loader를 실행하기 때문에
+     * DB 조회 동안 같은 Bin의 다른 이메일 조회가 막히고, 가상 Thread는 Carrier Thread에 고정됨
+     * => SingleFlight로 동시 조회만 합치고, 저장은 조회가 끝난 후 처리
+     *
+     * @param  email    : 사용자 이메일
+     * @param  loader   : 캐시에 없는 경우 사용자 정보 조회 함수
+     * @return UserInfo : 사용자 정보
+     */
+    public UserInfo get(String email, Function<String, UserInfo> loader) {
+        UserInfo userInfo = cache.getIfPresent(email);
+
+        if(userInfo != null) {
+            return userInfo;
+        }
+
+        return loads.execute(email, () -> {
+            long version = invalidations.get();
+            UserInfo loaded = loader.apply(email);
+
+            // 조회 중에 무효화된 경우 변경 전 정보일 수 있으므로 저장하지 않음
+            if(loaded != null && invalidations.get() == version) {
+                cache.put(email, loaded);
+            }
+
+            return loaded;
+        });
+    }
+
+    /**
+     * 사용자 정보 변경 시, 모든 노드의 캐시 무효화
+     *
+     * @param email         : 사용자 이메일
+     * @param stateChanged  : JWT Claims에 포함된 정보(잠금, 권한) 변경 여부
+     */
+    public void invalidate(String email, boolean stateChanged) {
+        evict(email, stateChanged);
+
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, (stateChanged ? STATE_PREFIX : INFO_PREFIX) + email);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     *
+     * @param message : 무효화 메시지
+     * @param pattern : 구독 Channel
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if(body.length() <= STATE_PREFIX.length()) {
+            log.error("잘못된 캐시 무효화 메시지 : {}", body);
+            return;
+        }
+
+        evict(body.substring(STATE_PREFIX.length()), body.startsWith(STATE_PREFIX));
+    }
+
+    /**
+     * 노드 내 캐시 삭제
+     *
+     * @param email        : 사용자 이메일
+     * @param stateChanged : JWT Claims에 포함된 정보(잠금, 권한) 변경 여부
+     */
+    private void evict(String email, boolean stateChanged) {
+        log.info("UserInfo 캐시 무효화 : {}", email);
+        invalidations.incrementAndGet();
+        cache.invalidate(email);
+
+        // 변경 전 발행된 JWT Claims를 신뢰하지 않도록 기록
+        if(stateChanged) {
+            userStateRegistry.markStale(email);
+        }
+    }
+}
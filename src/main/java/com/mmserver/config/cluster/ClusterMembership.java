@@ -0,0 +1,266 @@
+package com.mmserver.config.cluster;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cluster 노드 등록, 경매 담당 노드 결정
+ *
+ *  - 노드 마다 Redis에 TTL이 있는 Key(cluster:node:{id})를 주기적으로 갱신(Heartbeat)
+ *    => TTL 안에 갱신하지 못한 노드는 Cluster에서 제외(담당 경매는 남은 노드로 이동)
+ *  - 노드 목록(cluster:nodes)을 같은 주기로 조회해서 변경된 경우만 Hash Ring 다시 생성
+ *  - 종료 시 등록 정보를 바로 삭제(TTL 만료를 기다리지 않고 담당 변경)
+ *  - Redis 조회에 실패하면 마지막으로 조회한 노드 목록 유지, 현재 노드는 항상 포함
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    /**
+     * 노드 목록 Key
+     */
+    private static final String NODES_KEY = "cluster:nodes";
+
+    /**
+     * 노드 등록 정보 Key Prefix(값 : 내부 요청 주소)
+     */
+    private static final String NODE_KEY_PREFIX = "cluster:node:";
+
+    /**
+     * Redis 처리 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 현재 노드
+     */
+    private final ClusterNode self;
+
+    /**
+     * Cluster 사용 여부(false => 현재 노드가 모든 경매 담당)
+     */
+    private final boolean enabled;
+
+    /**
+     * 등록 정보 유지 시간
+     */
+    private final Duration heartbeatTtl;
+
+    /**
+     * 노드 별 Ring 위치 수
+     */
+    private final int virtualNodes;
+
+    /**
+     * 현재 Hash Ring
+     */
+    private volatile HashRing ring;
+
+    /**
+     * 생성자
+     *
+     * @param enabled       : Cluster 사용 여부
+     * @param address       : 내부 요청 주소(없으면 http://{Host 주소}:{Port})
+     * @param port          : 서버 Port
+     * @param heartbeatTtl  : 등록 정보 유지 시간(Heartbeat 주기보다 충분히 길게)
+     * @param virtualNodes  : 노드 별 Ring 위치 수
+     * @param secret        : 노드 간 내부 요청 인증 값(Cluster 사용 시 필수)
+     * @param eventsEnabled : 노드 간 입찰 Event 전달 사용 여부(Cluster 사용 시 필수)
+     * @throws IllegalStateException : Cluster를 사용하는데 인증 값이 없거나 입찰 Event 전달을 사용하지 않는 경우
+     */
+    public ClusterMembership(@Value("${cluster.enabled:false}") boolean enabled,
+                             @Value("${cluster.address:}") String address,
+                             @Value("${server.port:8080}") int port,
+                             @Value("${cluster.heartbeatTtl:10s}") Duration heartbeatTtl,
+                             @Value("${cluster.virtualNodes:128}") int virtualNodes,
+                             @Value("${cluster.secret:}") String secret,
+                             @Value("${auction.events.enabled:false}") boolean eventsEnabled,
+                             NodeIdentity nodeIdentity,
+                             StringRedisTemplate redisTemplate,
+                             MeterRegistry meterRegistry) {
+        // 인증 값이 없으면 담당 노드가 전달된 입찰을 모두 거절하므로 시작하지 않음
+        if(enabled && !StringUtils.hasText(secret)) {
+            throw new IllegalStateException("cluster.enabled=true 인 경우 cluster.secret(CLUSTER_SECRET)이 필요합니다.");
+        }
+
+        // 입찰은 담당 노드에서만 처리하므로, Event 전달 없이는 다른 노드의 구독자, 경매 상태가 갱신되지 않음
+        if(enabled && !eventsEnabled) {
+            throw new IllegalStateException("cluster.enabled=true 인 경우 auction.events.enabled(AUCTION_EVENTS_ENABLED)가 필요합니다.");
+        }
+
+        this.enabled       = enabled;
+        this.heartbeatTtl  = heartbeatTtl;
+        this.virtualNodes  = virtualNodes;
+        this.redisTemplate = redisTemplate;
+        this.self = new ClusterNode(nodeIdentity.getId(), StringUtils.hasText(address) ? address : "http://" + hostAddress() + ":" + port);
+        this.ring = new HashRing(Collections.singletonList(self), virtualNodes);
+
+        Gauge.builder("cluster.nodes", this, membership -> membership.ring.getNodes().size())
+                .description("Cluster 노드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시, 노드 등록 후 노드 목록 조회
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            log.error("Cluster 노드 등록 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 등록 정보 갱신, 노드 목록 조회
+     */
+    @Scheduled(fixedDelayString = "${cluster.heartbeatInterval:PT3S}")
+    public void heartbeat() {
+        if(!enabled) {
+            return;
+        }
+
+        try {
+            register();
+            refresh();
+        } catch (DataAccessException e) {
+            log.error("Cluster Heartbeat 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 경매 담당 노드 조회
+     *
+     * @param  itemId      : 경매 식별 값
+     * @return ClusterNode : 담당 노드
+     */
+    public ClusterNode ownerOf(Long itemId) {
+        return ring.ownerOf(itemId);
+    }
+
+    /**
+     * 현재 노드 여부
+     *
+     * @param  node    : 노드
+     * @return boolean : 현재 노드인 경우 true
+     */
+    public boolean isSelf(ClusterNode node) {
+        return self.getId().equals(node.getId());
+    }
+
+    /**
+     * 등록 정보 갱신(SET EX, SADD => Pipeline)
+     */
+    private void register() {
+        String key = NODE_KEY_PREFIX + self.getId();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForValue().set(key, self.getAddress(), heartbeatTtl);
+                ops.opsForSet().add(NODES_KEY, self.getId());
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 노드 목록 조회 후 변경된 경우 Hash Ring 다시 생성
+     * (등록 정보가 만료된 노드는 목록에서 제거)
+     */
+    private void refresh() {
+        Set<String> ids = redisTemplate.opsForSet().members(NODES_KEY);
+
+        if(ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        List<String> order = new ArrayList<>(ids);
+        List<String> keys  = new ArrayList<>(order.size());
+
+        for (String id : order) {
+            keys.add(NODE_KEY_PREFIX + id);
+        }
+
+        List<String> addresses = redisTemplate.opsForValue().multiGet(keys);
+
+        if(addresses == null) {
+            return;
+        }
+
+        Map<String, ClusterNode> live = new HashMap<>();
+        List<String> expired = new ArrayList<>();
+
+        for (int i = 0; i < order.size(); i++) {
+            String address = addresses.get(i);
+
+            if(address != null) {
+                live.put(order.get(i), new ClusterNode(order.get(i), address));
+            } else {
+                expired.add(order.get(i));
+            }
+        }
+
+        live.put(self.getId(), self);
+
+        if(!expired.isEmpty()) {
+            redisTemplate.opsForSet().remove(NODES_KEY, expired.toArray());
+        }
+
+        if(!live.equals(ring.getNodes())) {
+            log.info("Cluster 노드 변경 : {} => {}", ring.getNodes().keySet(), live.keySet());
+            ring = new HashRing(live.values(), virtualNodes);
+        }
+    }
+
+    private static String hostAddress() {
+        try {
+            return InetAddress.getLocalHost().getHostAddress();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시, 등록 정보 삭제
+     */
+    @PreDestroy
+    public void leave() {
+        if(!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.delete(NODE_KEY_PREFIX + self.getId());
+            redisTemplate.opsForSet().remove(NODES_KEY, self.getId());
+        } catch (DataAccessException e) {
+            log.error("Cluster 노드 등록 정보 삭제 실패 : {}", e.getMessage());
+        }
+    }
+}
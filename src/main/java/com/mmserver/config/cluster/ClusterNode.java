@@ -0,0 +1,35 @@
+package com.mmserver.config.cluster;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Cluster에 등록된 노드
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ClusterNode {
+
+    /**
+     * 노드 식별 값
+     */
+    private final String id;
+
+    /**
+     * 내부 요청 주소(ex. http://10.0.0.1:8080)
+     */
+    private final String address;
+
+    /**
+     * 생성자
+     *
+     * @param id      : 노드 식별 값
+     * @param address : 내부 요청 주소
+     */
+    public ClusterNode(String id, String address) {
+        this.id      = id;
+        this.address = address;
+    }
+}
@@ -0,0 +1,78 @@
+package com.mmserver.config.cluster;
+
+import com.mmserver.config.security.UserAuthentication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+
+/**
+ * 노드 간 내부 요청(/internal/**) 인증 필터
+ * (요청 Header의 Cluster Secret이 일치하면 ROLE_NODE 인증정보 생성)
+ */
+@Slf4j
+public class ClusterSecretFilter extends OncePerRequestFilter {
+
+    /**
+     * Cluster Secret Header 이름
+     */
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    /**
+     * 내부 요청 Path Prefix
+     */
+    public static final String INTERNAL_PATH = "/internal/";
+
+    /**
+     * 노드 권한
+     */
+    public static final String ROLE_NODE = "ROLE_NODE";
+
+    /**
+     * Cluster Secret(없으면 모든 내부 요청 거절)
+     */
+    private final byte[] secret;
+
+    /**
+     * 생성자
+     *
+     * @param secret : Cluster Secret
+     */
+    public ClusterSecretFilter(String secret) {
+        this.secret = StringUtils.hasText(secret) ? secret.getBytes(StandardCharsets.UTF_8) : null;
+
+        if(this.secret == null) {
+            log.warn("Cluster Secret이 없어 노드 간 내부 요청을 처리하지 않습니다.");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith(INTERNAL_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(SECRET_HEADER);
+
+        // 길이와 관계없이 일정한 시간으로 비교
+        if(secret != null && header != null && MessageDigest.isEqual(secret, header.getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UserAuthentication("node", null, Collections.singletonList(new SimpleGrantedAuthority(ROLE_NODE))));
+        } else {
+            log.error("Cluster Secret 불일치 : {}", request.getRemoteAddr());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mmserver.config.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 경매 식별 값 => 담당 노드 Consistent Hash Ring(변경 불가, 노드 변경 시 새로 생성)
+ *
+ *  - 노드 마다 virtualNodes 개의 위치를 Ring에 배치해서 노드 간 담당 경매 수 편차 감소
+ *  - 노드가 추가, 제거되면 해당 노드의 위치에 속한 경매만 다른 노드로 이동
+ *  - 같은 노드 목록이면 모든 노드에서 같은 결과(노드 위치는 노드 식별 값으로만 계산)
+ */
+public class HashRing {
+
+    /**
+     * Ring 위치 => 노드
+     */
+    private final NavigableMap<Long, ClusterNode> ring;
+
+    /**
+     * 노드 식별 값 => 노드
+     */
+    private final Map<String, ClusterNode> nodes;
+
+    /**
+     * 생성자
+     *
+     * @param nodes        : 노드 목록
+     * @param virtualNodes : 노드 별 Ring 위치 수
+     */
+    public HashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        TreeMap<Long, ClusterNode> ring = new TreeMap<>();
+        TreeMap<String, ClusterNode> byId = new TreeMap<>();
+
+        for (ClusterNode node : nodes) {
+            byId.put(node.getId(), node);
+
+            for (int i = 0; i < virtualNodes; i++) {
+                // 위치 충돌 시 식별 값이 작은 노드 사용(모든 노드에서 같은 결과)
+                ring.merge(hash(node.getId() + "#" + i), node,
+                        (current, next) -> current.getId().compareTo(next.getId()) <= 0 ? current : next);
+            }
+        }
+
+        this.ring  = Collections.unmodifiableNavigableMap(ring);
+        this.nodes = Collections.unmodifiableMap(byId);
+    }
+
+    /**
+     * 담당 노드 조회
+     *
+     * @param  key         : 경매 식별 값
+     * @return ClusterNode : 담당 노드(노드가 없으면 null)
+     */
+    public ClusterNode ownerOf(long key) {
+        if(ring.isEmpty()) {
+            return null;
+        }
+
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(mix(key));
+
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    public Map<String, ClusterNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * 노드 위치(MD5 앞 8 Byte)
+     */
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 경매 위치(SplitMix64 => 연속된 식별 값도 Ring 전체에 분산, 입찰마다 Digest 계산 없음)
+     */
+    private static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mmserver.config.cluster;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 현재 노드 식별 값
+ *
+ *  - 재시작해도 같은 값을 사용해야 함(Redis Stream Consumer Group 등 노드 별 상태 유지)
+ *  - cluster.nodeId 설정이 없으면 Host 이름 + Port
+ *    (Container 등 재시작마다 Host 이름이 바뀌는 환경에서는 노드 별 상태를 이어서 사용할 수 없음)
+ */
+@Slf4j
+@Getter
+@Component
+public class NodeIdentity {
+
+    /**
+     * 노드 식별 값
+     */
+    private final String id;
+
+    /**
+     * cluster.nodeId 설정 여부(false => Host 이름 + Port, 재시작 시 달라질 수 있음)
+     */
+    private final boolean configured;
+
+    /**
+     * 생성자
+     *
+     * @param nodeId : 노드 식별 값(없으면 Host 이름 + Port)
+     * @param port   : 서버 Port
+     */
+    public NodeIdentity(@Value("${cluster.nodeId:}") String nodeId,
+                        @Value("${server.port:8080}") int port) {
+        this.configured = StringUtils.hasText(nodeId);
+        this.id = configured ? nodeId : hostName() + ":" + port;
+
+        log.info("노드 식별 값 : {}", id);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mmserver.config.logging;
+
+import java.util.Arrays;
+
+/**
+ * Logging을 위한 Body 앞부분 저장
+ *
+ *  - 최대 크기까지만 복사하고, 전체 크기는 개수만 기록
+ *  - 하나의 요청 Thread에서만 사용
+ */
+public class BodyCapture {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * 최대 저장 크기(byte)
+     */
+    private final int limit;
+
+    /**
+     * 저장된 Body
+     */
+    private byte[] buffer = EMPTY;
+
+    /**
+     * 저장된 크기
+     */
+    private int size;
+
+    /**
+     * 전체 Body 크기
+     */
+    private long total;
+
+    /**
+     * 생성자
+     *
+     * @param limit : 최대 저장 크기(byte)
+     */
+    public BodyCapture(int limit) {
+        this.limit = Math.max(0, limit);
+    }
+
+    /**
+     * 1 byte 기록
+     *
+     * @param b : 기록할 값
+     */
+    public void write(int b) {
+        total++;
+
+        if(size < limit) {
+            ensureCapacity(size + 1);
+            buffer[size++] = (byte) b;
+        }
+    }
+
+    /**
+     * byte 배열 기록
+     *
+     * @param b   : 기록할 값
+     * @param off : 시작 위치
+     * @param len : 길이
+     */
+    public void write(byte[] b, int off, int len) {
+        if(len <= 0) {
+            return;
+        }
+
+        total += len;
+
+        int copy = Math.min(len, limit - size);
+        if(copy > 0) {
+            ensureCapacity(size + copy);
+            System.arraycopy(b, off, buffer, size, copy);
+            size += copy;
+        }
+    }
+
+    /**
+     * 저장된 Body 복사본
+     *
+     * @return byte[] : 최대 저장 크기까지의 Body
+     */
+    public byte[] toByteArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * 전체 Body 크기
+     *
+     * @return long : 전체 Body 크기(byte)
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * 저장 공간 확보(최대 저장 크기까지 2배씩 증가)
+     */
+    private void ensureCapacity(int required) {
+        if(required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(limit, Math.max(required, Math.max(64, buffer.length << 1))));
+        }
+    }
+}
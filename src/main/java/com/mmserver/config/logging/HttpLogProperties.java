@@ -0,0 +1,55 @@
+package com.mmserver.config.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Http Request, Response Logging 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "logging.http")
+public class HttpLogProperties {
+
+    /**
+     * Logging 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * Body 최대 기록 크기(byte)
+     */
+    private int maxBodySize = 1024;
+
+    /**
+     * 기본 기록 비율(0 ~ 1, 오류 응답은 항상 기록)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * 경로(Ant Pattern) 별 기록 비율
+     */
+    private Map<String, Double> routes = new LinkedHashMap<>();
+
+    /**
+     * 기록하지 않을 경로(Ant Pattern)
+     */
+    private List<String> excludes = new ArrayList<>(Arrays.asList("/actuator/**"));
+
+    /**
+     * 값을 가릴 항목 이름(JSON, Form, Query String)
+     */
+    private List<String> redactFields = new ArrayList<>(Arrays.asList("password", "token"));
+
+    /**
+     * 기록 대기열 크기(가득 찬 경우 버림)
+     */
+    private int bufferSize = 4096;
+}
@@ -0,0 +1,35 @@
+package com.mmserver.config.logging;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Http Request, Response 기록
+ * (요청 Thread에서는 복사만 하고, 문자열 변환은 기록 Thread에서 처리)
+ */
+@Getter
+@Builder
+public class HttpLogRecord {
+
+    private final String method;
+
+    private final String uri;
+
+    private final String queryString;
+
+    private final int status;
+
+    private final long elapsedMillis;
+
+    private final String requestContentType;
+
+    private final byte[] requestBody;
+
+    private final long requestBodySize;
+
+    private final String responseContentType;
+
+    private final byte[] responseBody;
+
+    private final long responseBodySize;
+}
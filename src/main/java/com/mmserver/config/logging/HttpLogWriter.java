@@ -0,0 +1,229 @@
+package com.mmserver.config.logging;
+
+import com.mmserver.utils.RingBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Http Request, Response 기록 Component
+ *
+ *  - 요청 Thread는 대기열(Lock-Free Ring Buffer)에 넣기만 하고 바로 반환
+ *  - 전용 Thread에서 문자열 변환, 값 가리기, Logging(Appender I/O) 처리
+ *  - 대기열이 가득 찬 경우 기록을 버리고 버린 개수만 주기적으로 출력
+ */
+@Slf4j
+public class HttpLogWriter {
+
+    /**
+     * 대기열이 비어있을 때 최소 대기 시간
+     */
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * 대기열이 비어있을 때 최대 대기 시간
+     */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * 종료 시 남은 기록 처리 대기 시간
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 3000;
+
+    /**
+     * 기록 대기열
+     */
+    private final RingBuffer<HttpLogRecord> buffer;
+
+    /**
+     * JSON 항목 값 가리기 Pattern
+     */
+    private final Pattern jsonRedaction;
+
+    /**
+     * Form, Query String 항목 값 가리기 Pattern
+     */
+    private final Pattern formRedaction;
+
+    /**
+     * 버린 기록 수
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 기록 Thread
+     */
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    /**
+     * 생성자
+     *
+     * @param properties : Logging 설정
+     */
+    public HttpLogWriter(HttpLogProperties properties) {
+        this.buffer = new RingBuffer<>(properties.getBufferSize());
+
+        String fields = properties.getRedactFields().stream()
+                .map(Pattern::quote)
+                .reduce((a, b) -> a + "|" + b)
+                .orElse("(?!)");
+
+        this.jsonRedaction = Pattern.compile("\"(" + fields + ")\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|[^,}\\]\\s]+)", Pattern.CASE_INSENSITIVE);
+        this.formRedaction = Pattern.compile("((?:^|[&?])(?:" + fields + ")=)[^&]*", Pattern.CASE_INSENSITIVE);
+
+        this.worker = new Thread(this::drain, "http-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 기록 대기열에 추가
+     *
+     * @param  record  : Http Request, Response 기록
+     * @return boolean : 대기열이 가득 차서 버린 경우 => false
+     */
+    public boolean offer(HttpLogRecord record) {
+        if(!running || !buffer.offer(record)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 대기열의 기록 처리
+     * 비어있는 동안은 대기 시간을 늘려가며 확인
+     */
+    private void drain() {
+        long parkNanos = MIN_PARK_NANOS;
+
+        while (true) {
+            HttpLogRecord record = buffer.poll();
+
+            if(record != null) {
+                write(record);
+                parkNanos = MIN_PARK_NANOS;
+                continue;
+            }
+
+            if(!running) {
+                break;
+            }
+
+            reportDropped();
+            LockSupport.parkNanos(this, parkNanos);
+            parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+        }
+
+        reportDropped();
+    }
+
+    /**
+     * 기록 출력
+     *
+     * @param record : Http Request, Response 기록
+     */
+    private void write(HttpLogRecord record) {
+        try {
+            String queryString = record.getQueryString();
+
+            log.info("{} uri=[{}] status={} time={}ms request=[{}] {} response=[{}] {}",
+                    record.getMethod(),
+                    StringUtils.hasText(queryString) ? record.getUri() + "?" + redactForm(queryString) : record.getUri(),
+                    record.getStatus(),
+                    record.getElapsedMillis(),
+                    record.getRequestContentType(),
+                    body(record.getRequestContentType(), record.getRequestBody(), record.getRequestBodySize()),
+                    record.getResponseContentType(),
+                    body(record.getResponseContentType(), record.getResponseBody(), record.getResponseBodySize()));
+        } catch (RuntimeException e) {
+            log.error("Http 기록 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Body 문자열 변환
+     *
+     * @param  contentType : Content Type
+     * @param  body        : Body 앞부분
+     * @param  total       : 전체 Body 크기
+     * @return String      : 출력할 Body
+     */
+    private String body(String contentType, byte[] body, long total) {
+        if(total == 0) {
+            return "";
+        }
+
+        if(!isText(contentType)) {
+            return "(binary " + total + " bytes)";
+        }
+
+        String content = new String(body, StandardCharsets.UTF_8);
+        content = isForm(contentType) ? redactForm(content) : redactJson(content);
+
+        return body.length < total ? content + "...(" + total + " bytes)" : content;
+    }
+
+    /**
+     * JSON 항목 값 가리기
+     */
+    private String redactJson(String content) {
+        Matcher matcher = jsonRedaction.matcher(content);
+
+        return matcher.find() ? matcher.replaceAll("\"$1\":\"***\"") : content;
+    }
+
+    /**
+     * Form, Query String 항목 값 가리기
+     */
+    private String redactForm(String content) {
+        Matcher matcher = formRedaction.matcher(content);
+
+        return matcher.find() ? matcher.replaceAll("$1***") : content;
+    }
+
+    private static boolean isText(String contentType) {
+        if(contentType == null) {
+            return true;
+        }
+
+        String type = contentType.toLowerCase();
+
+        return type.startsWith("text/") || type.contains("json") || type.contains("xml") || isForm(type);
+    }
+
+    private static boolean isForm(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith("application/x-www-form-urlencoded");
+    }
+
+    /**
+     * 버린 기록 수 출력
+     */
+    private void reportDropped() {
+        long count = dropped.getAndSet(0);
+
+        if(count > 0) {
+            log.warn("Http 기록 대기열 초과로 버린 기록 : {}", count);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시, 남은 기록 처리 후 Thread 종료
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mmserver.config.logging;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Http Request, Response Logging 환경 세팅
+ */
+@Configuration
+@EnableConfigurationProperties(HttpLogProperties.class)
+public class LoggingConfig {
+
+    /**
+     * Http Request, Response 기록 Component
+     *
+     * @param  properties    : Logging 설정
+     * @return HttpLogWriter : 기록 Component
+     */
+    @Bean
+    public HttpLogWriter httpLogWriter(HttpLogProperties properties) {
+        return new HttpLogWriter(properties);
+    }
+
+    /**
+     * Logging 필터 등록
+     *
+     * @param  properties    : Logging 설정
+     * @param  httpLogWriter : 기록 Component
+     * @return FilterRegistrationBean<LoggingFilter> : 필터 등록 정보
+     */
+    @Bean
+    public FilterRegistrationBean<LoggingFilter> loggingFilter(HttpLogProperties properties, HttpLogWriter httpLogWriter) {
+        return new FilterRegistrationBean<>(new LoggingFilter(properties, httpLogWriter));
+    }
+}
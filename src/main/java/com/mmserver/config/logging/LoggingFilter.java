@@ -1,27 +1,69 @@
 package com.mmserver.config.logging;
 
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
-import org.springframework.util.StringUtils;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Logging 필터
+ *
+ *  - 요청, 응답 Body는 설정된 최대 크기까지만 복사
+ *  - 경로 별 비율로 기록 여부 결정(오류 응답은 항상 기록)
+ *  - 기록은 {@link HttpLogWriter} 대기열에 넣고 바로 반환(Appender I/O는 전용 Thread에서 처리)
  */
-@Slf4j
-@Component
 public class LoggingFilter extends OncePerRequestFilter {
 
+    /**
+     * 경로 Pattern 확인
+     */
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    /**
+     * Logging 설정
+     */
+    private final HttpLogProperties properties;
+
+    /**
+     * Http Request, Response 기록 Component
+     */
+    private final HttpLogWriter httpLogWriter;
+
+    /**
+     * 생성자
+     *
+     * @param properties    : Logging 설정
+     * @param httpLogWriter : Http Request, Response 기록 Component
+     */
+    public LoggingFilter(HttpLogProperties properties, HttpLogWriter httpLogWriter) {
+        this.properties    = properties;
+        this.httpLogWriter = httpLogWriter;
+    }
+
+    /**
+     * 기록하지 않을 요청 확인
+     *
+     * @param  request : 요청 객체
+     * @return boolean : 기록하지 않는 경우 => true
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if(!properties.isEnabled()) {
+            return true;
+        }
+
+        String uri = request.getRequestURI();
+
+        return properties.getExcludes().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, uri));
+    }
+
     /**
      * Http Request, Response Logging
      *
@@ -38,41 +80,63 @@ public class LoggingFilter extends OncePerRequestFilter {
         if(isAsyncDispatch(request)){
             filterChain.doFilter(request, response);
         }else{
-            doFilterWrapper(new RequestWrapper(request), new ContentCachingResponseWrapper(response), filterChain);
+            doFilterWrapper(new RequestWrapper(request, properties.getMaxBodySize()), new ResponseWrapper(response, properties.getMaxBodySize()), filterChain);
         }
     }
 
-    private void doFilterWrapper(HttpServletRequestWrapper request, ContentCachingResponseWrapper response, FilterChain filterChain) throws ServletException, IOException {
+    private void doFilterWrapper(RequestWrapper request, ResponseWrapper response, FilterChain filterChain) throws ServletException, IOException {
+        long    start  = System.nanoTime();
+        boolean failed = true;
+
         try {
-            logRequest(request);
             filterChain.doFilter(request, response);
+            failed = false;
         } finally {
-            logResponse(response);
-            response.copyBodyToResponse();
-        }
-    }
+            // Writer에 남아있는 응답 전송
+            response.flushCapture();
 
-    private void logRequest(HttpServletRequestWrapper request) throws IOException {
-        String queryString = request.getQueryString();
+            // 예외가 발생한 경우 오류 응답으로 기록
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
 
-        log.info("Request : {} uri=[{}] content-type=[{}]",
-                request.getMethod(),
-                StringUtils.hasText(queryString) ? request.getRequestURI() + queryString : request.getRequestURI(),
-                request.getContentType()
-        );
-
-        logPayLoad("Request", request.getInputStream());
+            if(isSampled(request.getRequestURI(), status)) {
+                httpLogWriter.offer(HttpLogRecord.builder()
+                        .method(request.getMethod())
+                        .uri(request.getRequestURI())
+                        .queryString(request.getQueryString())
+                        .status(status)
+                        .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                        .requestContentType(request.getContentType())
+                        .requestBody(request.getCapture().toByteArray())
+                        .requestBodySize(request.getCapture().getTotal())
+                        .responseContentType(response.getContentType())
+                        .responseBody(response.getCapture().toByteArray())
+                        .responseBodySize(response.getCapture().getTotal())
+                        .build());
+            }
+        }
     }
 
-    private void logResponse(ContentCachingResponseWrapper response) throws IOException {
-        logPayLoad("Response", response.getContentInputStream());
-    }
+    /**
+     * 기록 여부 결정
+     *
+     * @param  uri     : 요청 경로
+     * @param  status  : 응답 상태
+     * @return boolean : 기록하는 경우 => true
+     */
+    private boolean isSampled(String uri, int status) {
+        // 오류 응답은 항상 기록
+        if(status >= 400) {
+            return true;
+        }
 
-    private void logPayLoad(String prefix, InputStream inputStream) throws IOException {
-        byte[] content = StreamUtils.copyToByteArray(inputStream);
-        if(content.length > 0){
-            String contentString = new String(content);
-            log.info("{} Body : {}", prefix, contentString);
+        double sampleRate = properties.getSampleRate();
+        for (Map.Entry<String, Double> route : properties.getRoutes().entrySet()) {
+            if(PATH_MATCHER.match(route.getKey(), uri)) {
+                sampleRate = route.getValue();
+                break;
+            }
         }
+
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
     }
 }
@@ -1,68 +1,160 @@
 package com.mmserver.config.logging;
 
-import org.springframework.util.StreamUtils;
-
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
-import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * HttpServletRequest Wrapper 클래스
  *
- *  - HttpServletRequest의 InputStream은 한번만 읽을 수 있기때문에
- *    캐싱해서 여러번 사용할 수 있도록 Wrapper 클래스 생성
+ *  - 요청 Body를 미리 읽지 않고, 다음 처리에서 읽는 만큼 그대로 전달
+ *  - 전달하면서 Logging을 위해 최대 크기까지만 복사(Multipart 요청은 복사하지 않음)
+ *  - Servlet 비동기 I/O(ReadListener) 지원
  */
 public class RequestWrapper extends HttpServletRequestWrapper {
 
-    private final byte[] cachedInputStream;
+    /**
+     * Logging을 위한 요청 Body 앞부분
+     */
+    private final BodyCapture capture;
+
+    private ServletInputStream inputStream;
+
+    private BufferedReader reader;
 
-    public RequestWrapper(HttpServletRequest request) throws IOException {
+    /**
+     * 생성자
+     *
+     * @param request     : 요청 객체
+     * @param maxBodySize : 복사할 최대 크기(byte)
+     */
+    public RequestWrapper(HttpServletRequest request, int maxBodySize) {
         super(request);
 
-        try(InputStream requestInputStream = request.getInputStream()){
-            cachedInputStream = StreamUtils.copyToByteArray(requestInputStream);
+        this.capture = new BodyCapture(isMultipart(request) ? 0 : maxBodySize);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if(reader != null) {
+            throw new IllegalStateException("getReader()가 이미 호출되었습니다.");
+        }
+
+        if(inputStream == null) {
+            inputStream = new TeeServletInputStream(super.getInputStream(), capture);
         }
+
+        return inputStream;
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-        return new CashedServledInputStream(cachedInputStream);
+    public BufferedReader getReader() throws IOException {
+        if(inputStream != null) {
+            throw new IllegalStateException("getInputStream()이 이미 호출되었습니다.");
+        }
+
+        if(reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+
+            reader = new BufferedReader(new InputStreamReader(new TeeServletInputStream(super.getInputStream(), capture), charset));
+        }
+
+        return reader;
+    }
+
+    /**
+     * 요청 Body 앞부분
+     * (다음 처리에서 읽은 만큼만 복사됨)
+     *
+     * @return BodyCapture : 요청 Body 앞부분
+     */
+    public BodyCapture getCapture() {
+        return capture;
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+
+        return contentType != null && contentType.toLowerCase().startsWith("multipart/");
     }
 
     /**
-     * Binary 데이터를 읽기위한 클래스
-     * 일반적으로 ServletRequest.getInputStream을 통해 조회
+     * 요청 객체에서 읽으면서 복사하는 InputStream
      */
-    private static class CashedServledInputStream extends ServletInputStream {
+    private static class TeeServletInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        private final BodyCapture capture;
+
+        TeeServletInputStream(ServletInputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture  = capture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+
+            if(b != -1) {
+                capture.write(b);
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
 
-        private final ByteArrayInputStream buffer;
+            if(read > 0) {
+                capture.write(b, off, read);
+            }
 
-        public CashedServledInputStream(byte[] contents) {
-            this.buffer = new ByteArrayInputStream(contents);
+            return read;
+        }
+
+        @Override
+        public int readLine(byte[] b, int off, int len) throws IOException {
+            int read = delegate.readLine(b, off, len);
+
+            if(read > 0) {
+                capture.write(b, off, read);
+            }
+
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate.available();
         }
 
         @Override
-        public int read() {
-            return buffer.read();
+        public void close() throws IOException {
+            delegate.close();
         }
 
         @Override
         public boolean isFinished() {
-            return buffer.available() == 0;
+            return delegate.isFinished();
         }
 
         @Override
         public boolean isReady() {
-            return true;
+            return delegate.isReady();
         }
 
         @Override
         public void setReadListener(ReadListener listener) {
-            throw new UnsupportedOperationException("지원하지 않습니다.");
+            delegate.setReadListener(listener);
         }
     }
 }
@@ -0,0 +1,141 @@
+package com.mmserver.config.logging;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * HttpServletResponse Wrapper 클래스
+ *
+ *  - 응답 Body를 메모리에 모두 쌓지 않고 바로 전송하면서,
+ *    Logging을 위해 최대 크기까지만 복사
+ */
+public class ResponseWrapper extends HttpServletResponseWrapper {
+
+    /**
+     * 응답 Body 앞부분
+     */
+    private final BodyCapture capture;
+
+    private ServletOutputStream outputStream;
+
+    private PrintWriter writer;
+
+    /**
+     * 생성자
+     *
+     * @param response     : 응답 객체
+     * @param maxBodySize  : 복사할 최대 크기(byte)
+     */
+    public ResponseWrapper(HttpServletResponse response, int maxBodySize) {
+        super(response);
+
+        this.capture = new BodyCapture(maxBodySize);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if(writer != null) {
+            throw new IllegalStateException("getWriter()가 이미 호출되었습니다.");
+        }
+
+        if(outputStream == null) {
+            outputStream = new TeeServletOutputStream(super.getOutputStream(), capture);
+        }
+
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if(outputStream != null) {
+            throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다.");
+        }
+
+        if(writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(
+                    new TeeServletOutputStream(super.getOutputStream(), capture), getCharacterEncoding()));
+        }
+
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if(writer != null) {
+            writer.flush();
+        }
+
+        super.flushBuffer();
+    }
+
+    /**
+     * Writer에 남아있는 문자를 전송해서 복사본에 반영
+     * (Writer를 감싸고 있기 때문에 요청 처리 후 반드시 호출)
+     */
+    public void flushCapture() {
+        if(writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 응답 Body 앞부분
+     *
+     * @return BodyCapture : 응답 Body 앞부분
+     */
+    public BodyCapture getCapture() {
+        return capture;
+    }
+
+    /**
+     * 응답 객체로 전송하면서 복사하는 OutputStream
+     */
+    private static class TeeServletOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private final BodyCapture capture;
+
+        TeeServletOutputStream(ServletOutputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture  = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.mmserver.config.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 환경 세팅
+ */
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Redis Pub/Sub 메시지 수신을 위한 Container
+     * (노드 간 캐시 무효화 등에 사용)
+     *
+     * @param  connectionFactory             : Redis Connection Factory
+     * @return RedisMessageListenerContainer : 메시지 수신 Container
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
+}
@@ -1,5 +1,7 @@
 package com.mmserver.config.security;
 
+import com.mmserver.config.cache.UserInfoCache;
+import com.mmserver.config.cluster.ClusterSecretFilter;
 import com.mmserver.config.security.jwt.JwtAccessDeniedHandler;
 import com.mmserver.config.security.jwt.JwtAuthenticationEntryPoint;
 import com.mmserver.config.security.jwt.JwtAuthenticationFilter;
@@ -8,18 +10,26 @@ import com.mmserver.config.security.oauth.OAuth2AuthorizationRequestRepository;
 import com.mmserver.config.security.oauth.OAuth2FailureHandler;
 import com.mmserver.config.security.oauth.OAuth2Provider;
 import com.mmserver.config.security.oauth.OAuth2SuccessHandler;
-import com.mmserver.repository.RedisRepository;
+import com.mmserver.config.security.oauth.RedisOAuth2AuthorizationRequestRepository;
+import com.mmserver.repository.RefreshTokenRepository;
 import com.mmserver.repository.UserRepository;
+import com.mmserver.service.TokenRevocationService;
+import com.mmserver.service.UserExistenceService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -43,7 +53,7 @@ public class SecurityConfig {
     /**
      * Refresh Token을 관리 Repository
      */
-    private final RedisRepository redisRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     /**
      *  OAuth2User 객체를 만들기 위한 Service
@@ -55,24 +65,71 @@ public class SecurityConfig {
      */
     private final JwtProvider jwtProvider;
 
+    /**
+     * Access Token 폐기 관리 Service
+     */
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 사용자 이메일, 이름 존재 여부 확인 Service
+     */
+    private final UserExistenceService userExistenceService;
+
+    /**
+     * 사용자 정보 Near Cache
+     */
+    private final UserInfoCache userInfoCache;
+
+    /**
+     * Meter Registry
+     */
+    private final MeterRegistry meterRegistry;
+
     /**
      * PasswordEncoder 구현체 설정
      *
+     * @param  strength : BCrypt Cost(4 ~ 31)
+     *                    (설정 값보다 낮은 Cost로 저장된 비밀번호는 로그인 시 다시 암호화)
      * @return BCryptPasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * OAuth2 인증 요청(OAuth2AuthorizationRequest) 저장소 설정
+     *
+     * @param  store         : 저장 방식
+     *                         (redis => Redis 저장 후 Cookie에 서명된 Handle만 저장, cookie => Cookie에 Java 직렬화 객체 저장)
+     * @param  secret        : Handle 서명 Key
+     * @param  redisTemplate : Redis Template
+     * @return AuthorizationRequestRepository<OAuth2AuthorizationRequest> : 인증 요청 저장소
+     */
+    @Bean
+    public AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository(
+            @Value("${oauth.authorizationRequest.store:cookie}") String store,
+            @Value("${jwt.secretKeyHash}") String secret,
+            StringRedisTemplate redisTemplate) {
+        if ("redis".equalsIgnoreCase(store)) {
+            return new RedisOAuth2AuthorizationRequestRepository(redisTemplate, secret);
+        }
+
+        return new OAuth2AuthorizationRequestRepository();
     }
 
     /**
      * Security 설정
      *
-     * @param http : {@link HttpSecurity}
-     *               http 요청에 대한 웹 기반 보안을 구성하기 위한 객체
+     * @param http                           : {@link HttpSecurity}
+     *                                         http 요청에 대한 웹 기반 보안을 구성하기 위한 객체
+     * @param authorizationRequestRepository : OAuth2 인증 요청 저장소
+     * @param clusterSecret                  : 노드 간 내부 요청 인증 값
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository,
+                                           @Value("${cluster.secret:}") String clusterSecret) throws Exception {
         http
                 // 기본 로그인 창 사용 안함
                 .httpBasic().disable()
@@ -89,12 +146,19 @@ public class SecurityConfig {
         // URL 별 권한 설정
         http.authorizeRequests()
                 .antMatchers(HttpMethod.GET, "/", "/login", "/check/**").permitAll()
+                // 상태 확인, 지표 수집(Prometheus)
+                .antMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                 .antMatchers(HttpMethod.POST, "/signup", "/reissue").permitAll()
+                // 노드 간 내부 요청(다른 노드에서 전달된 입찰)
+                .antMatchers(ClusterSecretFilter.INTERNAL_PATH + "**").hasAuthority(ClusterSecretFilter.ROLE_NODE)
                 .anyRequest().hasRole("USER");
 
+        // 노드 간 내부 요청 인증(Cluster Secret)
+        http.addFilterBefore(new ClusterSecretFilter(clusterSecret), UsernamePasswordAuthenticationFilter.class);
+
         // JWT 설정
         // UsernamePasswordAuthenticationFilter 필터 전에 JwtAuthenticationFiler가 실행되도록 설정
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class)
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtProvider, tokenRevocationService, meterRegistry), UsernamePasswordAuthenticationFilter.class)
                 // 예외 처리 핸들링 설정
                 .exceptionHandling()
                     // 인증예외 처리
@@ -105,13 +169,13 @@ public class SecurityConfig {
         // OAuth2 로그인 설정
         http.oauth2Login()
                 // OAuth2AuthorizationRequest를 저장하기위해 필요한 레포지토리 설정
-                .authorizationEndpoint().authorizationRequestRepository(new OAuth2AuthorizationRequestRepository())
+                .authorizationEndpoint().authorizationRequestRepository(authorizationRequestRepository)
                 .and()
                 // OAuth2를 통해 Authentication 생성에 필요한 OAuthUser 반환하는 클래스 지정
                 .userInfoEndpoint().userService(oAuthProvider)
                 .and()
                 // 인증 성공 시, 호출하는 핸들러
-                .successHandler(new OAuth2SuccessHandler(userRepository, redisRepository, jwtProvider))
+                .successHandler(new OAuth2SuccessHandler(userRepository, refreshTokenRepository, jwtProvider, userExistenceService, userInfoCache))
                 // 인증 실패 시, 호출하는 핸들러
                 .failureHandler(new OAuth2FailureHandler());
 
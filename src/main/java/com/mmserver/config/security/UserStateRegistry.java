@@ -0,0 +1,77 @@
+package com.mmserver.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 상태 변경 관리 Component
+ *
+ *  - 잠금, 권한 등 JWT Claims에 포함된 사용자 상태가 변경된 경우 변경 시간을 기록
+ *  - 변경 시간 이전에 발행된 JWT는 Claims 정보를 신뢰하지 않고 DB를 통해 사용자 정보 조회
+ *  - 유지 시간이 지난 기록은 주기적으로 정리(변경 메시지마다 전체 조회하지 않음)
+ */
+@Slf4j
+@Component
+public class UserStateRegistry {
+
+    /**
+     * 변경 기록 유지 시간
+     * (Access Token 만료 시간 + 서버 간 시간 차이, 변경 전에 발행된 JWT가 만료될 때까지 유지)
+     */
+    private final long retentionMillis;
+
+    /**
+     * 사용자 이메일 별 상태 변경 시간
+     */
+    private final Map<String, Long> staleSince = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param accessTokenExpireTime : Access Token 만료 시간
+     * @param clockSkew             : 서버 간 허용 시간 차이
+     */
+    public UserStateRegistry(@Value("${jwt.accessTokenExpireTime:30m}") Duration accessTokenExpireTime,
+                             @Value("${jwt.clockSkew:1m}") Duration clockSkew) {
+        this.retentionMillis = accessTokenExpireTime.plus(clockSkew).toMillis();
+    }
+
+    /**
+     * 사용자 상태 변경 기록
+     *
+     * @param email : 사용자 이메일
+     */
+    public void markStale(String email) {
+        log.info("사용자 상태 변경 : {}", email);
+        staleSince.put(email, System.currentTimeMillis());
+    }
+
+    /**
+     * 유지 시간이 지난 변경 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.staleSweepInterval:PT1M}")
+    public void sweep() {
+        long expired = System.currentTimeMillis() - retentionMillis;
+        staleSince.values().removeIf(changedAt -> changedAt < expired);
+    }
+
+    /**
+     * JWT Claims 신뢰 여부 확인
+     *
+     * @param  email    : 사용자 이메일
+     * @param  issuedAt : JWT 발행 시간
+     * @return boolean  : 상태 변경 이후 발행된 JWT가 아닌 경우 => true
+     */
+    public boolean isStale(String email, long issuedAt) {
+        Long changedAt = staleSince.get(email);
+
+        // JWT 발행 시간은 초 단위로 저장되기 때문에 초 단위로 비교
+        return changedAt != null && issuedAt / 1000 <= changedAt / 1000;
+    }
+}
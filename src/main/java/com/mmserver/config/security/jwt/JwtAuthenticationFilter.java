@@ -1,7 +1,10 @@
 package com.mmserver.config.security.jwt;
 
+import com.mmserver.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,7 +23,6 @@ import static com.mmserver.domain.EnumType.ErrorCode.JWT_ACCESS_TOKEN_EXPIRED;
  * JWT 인증 필터
  */
 @Slf4j
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
@@ -28,6 +30,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final JwtProvider jwtProvider;
 
+    /**
+     * Access Token 폐기 관리 Service
+     */
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 단계 별 처리 시간
+     *  - resolve    : Header에서 토큰 추출
+     *  - verify     : 서명 검증, Claims 추출
+     *  - revocation : 폐기 여부 확인
+     *  - principal  : 인증정보 생성(사용자 조회)
+     */
+    private final Timer resolveTimer;
+
+    private final Timer verifyTimer;
+
+    private final Timer revocationTimer;
+
+    private final Timer principalTimer;
+
+    /**
+     * 생성자
+     *
+     * @param jwtProvider            : JWT 토큰 관리 Component
+     * @param tokenRevocationService : Access Token 폐기 관리 Service
+     * @param meterRegistry          : Meter Registry
+     */
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, TokenRevocationService tokenRevocationService, MeterRegistry meterRegistry) {
+        this.jwtProvider            = jwtProvider;
+        this.tokenRevocationService = tokenRevocationService;
+
+        this.resolveTimer    = stageTimer(meterRegistry, "resolve");
+        this.verifyTimer     = stageTimer(meterRegistry, "verify");
+        this.revocationTimer = stageTimer(meterRegistry, "revocation");
+        this.principalTimer  = stageTimer(meterRegistry, "principal");
+    }
 
     /**
      * JWT 검증
@@ -49,12 +87,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // Access Token 재발급하는 경우 토큰 체크 안함
             if(!path.startsWith("/reissue")) {
-                String accessToken = jwtProvider.resolveToken(request);
+                String accessToken = resolveTimer.record(() -> isSubscription(path) ? jwtProvider.resolveSubscriptionToken(request) : jwtProvider.resolveToken(request));
                 log.info("Access Token : {}", accessToken);
 
-                if (StringUtils.hasText(accessToken) && jwtProvider.validateToken(accessToken)) {
-                    Authentication authentication = jwtProvider.getAuthentication(accessToken);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (StringUtils.hasText(accessToken)) {
+                    // 서명 검증은 한번만 수행하고, 검증된 Claims로 인증정보 생성
+                    Claims claims = verifyTimer.record(() -> jwtProvider.getClaims(accessToken));
+
+                    // 로그아웃 등으로 폐기된 토큰은 인증정보 생성하지 않음
+                    if (claims != null && revocationTimer.record(() -> tokenRevocationService.isRevoked(claims.getId()))) {
+                        log.error("폐기된 Access Token 입니다.");
+                    } else if (claims != null) {
+                        Authentication authentication = principalTimer.record(() -> jwtProvider.getAuthentication(claims, accessToken));
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             }
 
@@ -71,4 +117,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             response.getWriter().flush();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 경매 가격 구독 요청 확인
+     *
+     * @param  path    : 접근 Path
+     * @return boolean : /auction/{itemId}/subscribe 인 경우 => true
+     */
+    private static boolean isSubscription(String path) {
+        return path.startsWith("/auction/") && path.endsWith("/subscribe");
+    }
+
+    /**
+     * 단계 별 처리 시간 Timer 생성
+     *
+     * @param  meterRegistry : Meter Registry
+     * @param  stage         : 단계 이름
+     * @return Timer         : 처리 시간 Timer
+     */
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("auth.filter")
+                .description("JWT 인증 필터 단계 별 처리 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
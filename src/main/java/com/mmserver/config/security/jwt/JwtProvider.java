@@ -2,10 +2,15 @@ package com.mmserver.config.security.jwt;
 
 import com.mmserver.config.security.UserAuthentication;
 import com.mmserver.config.security.UserInfo;
+import com.mmserver.config.security.UserStateRegistry;
 import com.mmserver.domain.model.Token;
+import com.mmserver.domain.model.User;
 import com.mmserver.service.UserService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -32,6 +37,12 @@ public class JwtProvider {
      */
     private final Key secretKey;
 
+    /**
+     * JWT 서명 검증 Parser
+     * (Thread-safe 하므로 생성 시 한번만 생성해서 재사용)
+     */
+    private final JwtParser jwtParser;
+
     /**
      * 헤더에 담긴 JWT의 키 값
      */
@@ -43,10 +54,9 @@ public class JwtProvider {
     private final String jwtPrefix;
 
     /**
-     * Access Token 만료 시간(30분)
+     * Access Token 만료 시간(jwt.accessTokenExpireTime, 기본 30분)
      */
-//    private final long accessTokenExpireTime  = Duration.ofMinutes(30).toMillis();
-    private final long accessTokenExpireTime  = Duration.ofMillis(30).toMillis();
+    private final long accessTokenExpireTime;
 
     /**
      * Refresh Token 만료 시간(1주일)
@@ -54,27 +64,76 @@ public class JwtProvider {
     private final long refreshTokenExpireTime = Duration.ofDays(7).toMillis();
 
 
+    /**
+     * 구독 요청의 JWT Query Parameter 이름
+     */
+    private static final String SUBSCRIPTION_TOKEN_PARAMETER = "token";
+
+    /**
+     * 발급할 토큰의 PayLoad 형식 버전
+     * (조회는 버전과 관계없이 v1, v2 모두 지원 => {@link TokenClaims})
+     */
+    private final int claimVersion;
+
+    /**
+     * Stateless 인증 사용 여부
+     * (true => JWT Claims만으로 인증정보 생성)
+     */
+    private final boolean statelessPrincipal;
+
     /**
      * 사용자 관리 Service
      */
     private final UserService userService;
 
+    /**
+     * 사용자 상태 변경 관리 Component
+     */
+    private final UserStateRegistry userStateRegistry;
+
+    /**
+     * Access Token 생성 시간
+     */
+    private final Timer accessTokenTimer;
+
+    /**
+     * Refresh Token 생성 시간
+     */
+    private final Timer refreshTokenTimer;
+
     /**
      * 생성자
      *
-     * @param secretKeyHash : JWT Signature에서 사용할 암호화 된 Secret 값
-     * @param jwtPrefix     : JWT 인증 타입
+     * @param secretKeyHash      : JWT Signature에서 사용할 암호화 된 Secret 값
+     * @param jwtHeader          : 헤더에 담긴 JWT의 키 값
+     * @param jwtPrefix          : JWT 인증 타입
+     * @param statelessPrincipal    : Stateless 인증 사용 여부
+     * @param accessTokenExpireTime : Access Token 만료 시간
+     * @param claimVersion          : 발급할 토큰의 PayLoad 형식 버전
      */
     public JwtProvider(@Value("${jwt.secretKeyHash}") String secretKeyHash,
                        @Value("${jwt.responseHeader}") String jwtHeader,
                        @Value("${jwt.prefix}") String jwtPrefix,
-                       UserService userService) {
+                       @Value("${jwt.statelessPrincipal:false}") boolean statelessPrincipal,
+                       @Value("${jwt.accessTokenExpireTime:30m}") Duration accessTokenExpireTime,
+                       @Value("${jwt.claimVersion:2}") int claimVersion,
+                       UserService userService,
+                       UserStateRegistry userStateRegistry,
+                       MeterRegistry meterRegistry) {
         // SecretKey 인스턴스
         this.secretKey = Keys.hmacShaKeyFor(secretKeyHash.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
         this.jwtHeader = jwtHeader;
         this.jwtPrefix = jwtPrefix;
+        this.statelessPrincipal = statelessPrincipal;
+        this.accessTokenExpireTime = accessTokenExpireTime.toMillis();
+        this.claimVersion = claimVersion;
+
+        this.userService       = userService;
+        this.userStateRegistry = userStateRegistry;
 
-        this.userService = userService;
+        this.accessTokenTimer  = tokenTimer(meterRegistry, "access");
+        this.refreshTokenTimer = tokenTimer(meterRegistry, "refresh");
     }
 
     /**
@@ -85,7 +144,7 @@ public class JwtProvider {
      */
     public Token createAccessToken(UserInfo userInfo) {
         log.info("Access Token 생성");
-        return createToken(userInfo, accessTokenExpireTime);
+        return accessTokenTimer.record(() -> createToken(userInfo, accessTokenExpireTime));
     }
 
     /**
@@ -96,7 +155,21 @@ public class JwtProvider {
      */
     public Token createRefreshToken(UserInfo userInfo) {
         log.info("Refresh Token 생성");
-        return createToken(userInfo, refreshTokenExpireTime);
+        return refreshTokenTimer.record(() -> createToken(userInfo, refreshTokenExpireTime));
+    }
+
+    /**
+     * 토큰 종류 별 생성 시간 Timer 생성
+     *
+     * @param  meterRegistry : Meter Registry
+     * @param  type          : 토큰 종류
+     * @return Timer         : 생성 시간 Timer
+     */
+    private static Timer tokenTimer(MeterRegistry meterRegistry, String type) {
+        return Timer.builder("auth.jwt.create")
+                .description("JWT 생성 시간")
+                .tag("type", type)
+                .register(meterRegistry);
     }
 
     /**
@@ -109,9 +182,8 @@ public class JwtProvider {
     private Token createToken(UserInfo userInfo, long tokenExpireTime) {
         log.info("userInfo : {}", userInfo);
 
-        // PayLoad 정보 세팅
-        Claims claims = Jwts.claims().setSubject(userInfo.getName());
-        claims.put("roles", userInfo.getAuthorities());
+        // PayLoad 정보 세팅(Stateless 인증을 위한 사용자 정보, JWT 식별 값 포함)
+        Claims claims = TokenClaims.encode(userInfo, claimVersion);
 
         Date now = new Date();
         // JWT 만료 시간
@@ -139,22 +211,54 @@ public class JwtProvider {
     }
 
     /**
-     * JWT 복호화를 통해 인증정보 조회
+     * 검증된 Claims를 통해 인증정보 조회
+     * (JWT 서명 검증을 다시 수행하지 않음)
      *
-     * @param token : JWT
+     * @param  claims         : 서명 검증이 완료된 PayLoad 정보
+     * @param  token          : JWT
+     * @return Authentication : 인증정보
      */
-    public Authentication getAuthentication(String token) {
+    public Authentication getAuthentication(Claims claims, String token) {
         log.info("Get Authentication");
+        TokenClaims tokenClaims = TokenClaims.of(claims);
+
         // 사용자 이메일 조회
-        String email = getUserEmail(token);
+        String email = tokenClaims.getEmail();
         log.info("email : {}", email);
 
-        // Authentication에 저장하기 위한 객체
-        UserInfo userInfo = (UserInfo) userService.loadUserByUsername(email);
+        // Stateless 인증 사용 시, Claims를 통해 인증정보 생성
+        UserInfo userInfo = statelessPrincipal ? getUserInfoByClaims(tokenClaims) : null;
+
+        // Claims 정보가 부족하거나 상태가 변경된 사용자인 경우 DB 조회
+        if(userInfo == null) {
+            userInfo = (UserInfo) userService.loadUserByUsername(email);
+        }
 
         return new UserAuthentication(userInfo, token, userInfo.getAuthorities());
     }
 
+    /**
+     * JWT Claims를 통해 Authentication에 저장하기 위한 객체 생성
+     *
+     * @param  claims   : 서명 검증이 완료된 PayLoad 정보(v1, v2)
+     * @return UserInfo : 사용자 정보
+     *                    (Claims 정보가 부족하거나 상태가 변경된 경우 null 반환)
+     */
+    private UserInfo getUserInfoByClaims(TokenClaims claims) {
+        // 지원하지 않는 권한도 정보 부족으로 처리
+        if(!claims.isComplete()) {
+            log.info("Claims 정보 부족 : DB 조회");
+            return null;
+        }
+
+        if(userStateRegistry.isStale(claims.getEmail(), claims.getIssuedAt().getTime())) {
+            log.info("상태가 변경된 사용자 : DB 조회");
+            return null;
+        }
+
+        return new UserInfo(User.ofPrincipal(claims.getUserId(), claims.getEmail(), claims.getRole(), claims.getLockYn()));
+    }
+
     /**
      * JWT PayLoad에서 사용자 이메일 정보 조회
      *
@@ -162,12 +266,7 @@ public class JwtProvider {
      * @return String : 사용자 이메일
      */
     public String getUserEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return TokenClaims.of(jwtParser.parseClaimsJws(token).getBody()).getEmail();
     }
 
     /**
@@ -193,6 +292,19 @@ public class JwtProvider {
         return null;
     }
 
+    /**
+     * 구독 요청(EventSource)의 JWT 추출
+     * Header에 없는 경우 Query Parameter(token)에서 추출
+     *
+     * @param  request : 요청 객체
+     * @return String  : JWT
+     */
+    public String resolveSubscriptionToken(HttpServletRequest request) {
+        String token = resolveToken(request);
+
+        return token != null ? token : request.getParameter(SUBSCRIPTION_TOKEN_PARAMETER);
+    }
+
     /**
      * Jwt 유효성 검사
      *
@@ -200,11 +312,24 @@ public class JwtProvider {
      * @return boolean : 유효성 여부(true => 유효한 JWT)
      */
     public boolean validateToken(String token) {
+        return getClaims(token) != null;
+    }
+
+    /**
+     * JWT 서명 검증 후 PayLoad 정보 조회
+     * 서명 검증은 한번만 수행하고, 검증된 Claims를 그대로 사용할 수 있도록 반환
+     *
+     * @param  token  : JWT
+     * @return Claims : 검증된 PayLoad 정보
+     *                  (유효하지 않은 JWT인 경우 null 반환)
+     * @throws ExpiredJwtException : 만료된 JWT인 경우
+     */
+    public Claims getClaims(String token) {
         log.info("JWT Validation");
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             log.info("Success");
-            return true;
+            return claims;
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.");
         } catch (UnsupportedJwtException e) {
@@ -213,7 +338,23 @@ public class JwtProvider {
             log.error("JWT 토큰이 잘못되었습니다.");
         }
 
-        return false;
+        return null;
+    }
+
+    /**
+     * 만료 여부와 관계없이 JWT 서명 검증 후 PayLoad 정보 조회
+     * (Access Token 재발급 시 만료된 토큰 확인, 서명 검증 후 만료 여부를 확인하므로 만료된 Claims도 검증된 값)
+     *
+     * @param  token  : JWT
+     * @return Claims : 검증된 PayLoad 정보
+     *                  (유효하지 않은 JWT인 경우 null 반환)
+     */
+    public Claims getVerifiedClaims(String token) {
+        try {
+            return getClaims(token);
+        } catch (ExpiredJwtException e) {
+            return e.getClaims();
+        }
     }
 
     /**
@@ -0,0 +1,224 @@
+package com.mmserver.config.security.jwt;
+
+import com.mmserver.config.security.UserInfo;
+import com.mmserver.domain.EnumType.RoleType;
+import com.mmserver.domain.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Access/Refresh Token PayLoad 형식
+ *
+ *  - v1 : sub(이메일), roles(GrantedAuthority 목록), uid, role(권한 이름), lock(Y/N), jti(UUID)
+ *  - v2 : v(2), sub(사용자 식별 값), em(이메일), r(권한 코드), l(잠금인 경우만 1), jti(128bit Base64 URL)
+ *
+ * 배포 중에는 두 형식이 함께 사용되므로 조회는 항상 두 형식 모두 지원
+ * (v Claim이 없으면 v1)
+ */
+@Getter
+@ToString
+public class TokenClaims {
+
+    /**
+     * 축약 형식 버전
+     */
+    public static final int COMPACT_VERSION = 2;
+
+    /**
+     * v1 Claim 이름
+     */
+    static final String V1_ROLES   = "roles";
+    static final String V1_USER_ID = "uid";
+    static final String V1_ROLE    = "role";
+    static final String V1_LOCK    = "lock";
+
+    /**
+     * v2 Claim 이름
+     */
+    static final String VERSION = "v";
+    static final String EMAIL   = "em";
+    static final String ROLE    = "r";
+    static final String LOCK    = "l";
+
+    /**
+     * jti 길이(byte)
+     */
+    private static final int ID_LENGTH = 16;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * PayLoad 형식 버전
+     */
+    private final int version;
+
+    /**
+     * 사용자 식별 값
+     */
+    private final Long userId;
+
+    /**
+     * 사용자 이메일
+     */
+    private final String email;
+
+    /**
+     * 사용자 권한
+     */
+    private final RoleType role;
+
+    /**
+     * 계정 잠금 여부
+     */
+    private final String lockYn;
+
+    /**
+     * JWT 식별 값
+     */
+    private final String id;
+
+    /**
+     * JWT 발행 시간
+     */
+    private final Date issuedAt;
+
+    /**
+     * JWT 만료 시간
+     */
+    private final Date expiration;
+
+    private TokenClaims(int version, Long userId, String email, RoleType role, String lockYn,
+                        String id, Date issuedAt, Date expiration) {
+        this.version    = version;
+        this.userId     = userId;
+        this.email      = email;
+        this.role       = role;
+        this.lockYn     = lockYn;
+        this.id         = id;
+        this.issuedAt   = issuedAt;
+        this.expiration = expiration;
+    }
+
+    /**
+     * PayLoad 정보 변환(v1, v2 모두 지원)
+     * 서명 검증된 Claims, 서명 검증 없이 추출한 PayLoad(Map) 모두 사용 가능
+     *
+     * @param  payload     : PayLoad 정보
+     * @return TokenClaims : 변환된 정보(값이 없거나 형식이 올바르지 않은 항목은 null)
+     */
+    public static TokenClaims of(Map<String, Object> payload) {
+        String subject = asString(payload.get(Claims.SUBJECT));
+        String id      = asString(payload.get(Claims.ID));
+        Date issuedAt   = asDate(payload.get(Claims.ISSUED_AT));
+        Date expiration = asDate(payload.get(Claims.EXPIRATION));
+
+        Long version = asLong(payload.get(VERSION));
+
+        if (version == null || version < COMPACT_VERSION) {
+            RoleType role = null;
+            String roleName = asString(payload.get(V1_ROLE));
+
+            try {
+                role = roleName != null ? RoleType.valueOf(roleName) : null;
+            } catch (IllegalArgumentException e) {
+                // 지원하지 않는 권한 => null
+            }
+
+            return new TokenClaims(1, asLong(payload.get(V1_USER_ID)), subject, role,
+                    asString(payload.get(V1_LOCK)), id, issuedAt, expiration);
+        }
+
+        return new TokenClaims(version.intValue(), asLong(subject), asString(payload.get(EMAIL)),
+                RoleType.ofCode(asString(payload.get(ROLE))), Long.valueOf(1).equals(asLong(payload.get(LOCK))) ? "Y" : "N",
+                id, issuedAt, expiration);
+    }
+
+    /**
+     * 발급할 토큰의 PayLoad 생성
+     * 사용자 식별 값이 없는 경우 v2 형식을 사용할 수 없으므로 v1 형식으로 생성
+     *
+     * @param  userInfo : 사용자 정보
+     * @param  version  : PayLoad 형식 버전
+     * @return Claims   : PayLoad 정보(jti 포함)
+     */
+    static Claims encode(UserInfo userInfo, int version) {
+        User user = userInfo.getUser();
+        Claims claims = Jwts.claims();
+
+        if (version >= COMPACT_VERSION && user.getId() != null && user.getRole() != null) {
+            claims.put(VERSION, COMPACT_VERSION);
+            claims.setSubject(String.valueOf(user.getId()));
+            claims.put(EMAIL, userInfo.getName());
+            claims.put(ROLE, user.getRole().getCode());
+
+            // 잠금이 아닌 경우 생략
+            if ("Y".equals(user.getLockYn())) {
+                claims.put(LOCK, 1);
+            }
+
+            byte[] id = new byte[ID_LENGTH];
+            RANDOM.nextBytes(id);
+
+            return claims.setId(Base64.getUrlEncoder().withoutPadding().encodeToString(id));
+        }
+
+        claims.setSubject(userInfo.getName());
+        claims.put(V1_ROLES, userInfo.getAuthorities());
+        claims.put(V1_USER_ID, user.getId());
+        claims.put(V1_ROLE, user.getRole() == null ? null : user.getRole().name());
+        claims.put(V1_LOCK, user.getLockYn());
+
+        return claims.setId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Stateless 인증에 필요한 정보가 모두 있는지 확인
+     *
+     * @return boolean : 사용자 식별 값, 이메일, 권한, 잠금 여부, 발행 시간이 모두 있는 경우 => true
+     */
+    public boolean isComplete() {
+        return userId != null && email != null && role != null && lockYn != null && issuedAt != null;
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static Long asLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        if (value instanceof String) {
+            try {
+                return Long.valueOf((String) value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * NumericDate(초) => Date
+     * (jjwt Claims는 Date로 변환된 값을 가질 수 있음)
+     */
+    private static Date asDate(Object value) {
+        if (value instanceof Date) {
+            return (Date) value;
+        }
+
+        Long seconds = value instanceof Number ? asLong(value) : null;
+
+        return seconds != null ? new Date(seconds * 1000) : null;
+    }
+}
@@ -0,0 +1,228 @@
+package com.mmserver.config.security.oauth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth 서비스 호출 Client
+ *
+ *  - 모든 OAuth 서비스 호출이 하나의 HttpClient(Connection Keep-Alive 재사용)를 공유
+ *  - OAuth 서비스 별 응답 대기 시간, 최대 동시 호출 수(Bulkhead) 제한
+ *    => OAuth 서비스가 느려져도 요청 Thread가 무한정 대기하거나 모두 점유되지 않음
+ *  - 연결 끊기는 연결 실패, 5xx, 429 응답인 경우 Jitter를 적용해서 재시도
+ */
+@Slf4j
+public class OAuth2HttpClient {
+
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private final HttpClient client;
+
+    private final OAuth2HttpProperties properties;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * OAuth 서비스 별 동시 호출 제한
+     */
+    private final ConcurrentHashMap<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 생성자
+     *
+     * @param properties    : OAuth 서비스 호출 설정
+     * @param meterRegistry : Meter Registry
+     */
+    public OAuth2HttpClient(OAuth2HttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties    = properties;
+        this.meterRegistry = meterRegistry;
+        this.client        = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * 사용자 정보 조회
+     *
+     * @param  provider            : OAuth 서비스 이름
+     * @param  userInfoUri         : 사용자 정보 API 주소
+     * @param  accessToken         : OAuth 서비스로부터 발급받은 Access Token
+     * @return Map<String, Object> : 사용자 정보
+     * @throws OAuth2AuthenticationException : 호출 실패, 시간 초과, 동시 호출 수 초과인 경우
+     */
+    public Map<String, Object> getUserInfo(String provider, String userInfoUri, String accessToken) {
+        if(!StringUtils.hasText(userInfoUri)) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("missing_user_info_uri"), "사용자 정보 API 주소가 없습니다. : " + provider);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(userInfoUri))
+                .timeout(readTimeout(provider))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        HttpResponse<String> response;
+
+        try {
+            response = send(provider, request);
+        } catch (IOException e) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("invalid_user_info_response"), "사용자 정보 조회 실패 : " + e.getMessage(), e);
+        }
+
+        if(response == null) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("temporarily_unavailable"), "OAuth 서비스 동시 호출 수 초과 : " + provider);
+        }
+
+        if(response.statusCode() != 200) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("invalid_user_info_response"), "사용자 정보 조회 실패 : " + response.statusCode());
+        }
+
+        try {
+            return objectMapper.readValue(response.body(), ATTRIBUTES_TYPE);
+        } catch (IOException e) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("invalid_user_info_response"), "사용자 정보 형식 오류", e);
+        }
+    }
+
+    /**
+     * OAuth 서비스 연결 끊기
+     * Access Token을 통해 사용자 Access Token과 Refresh Token 만료 시킴
+     *
+     * @param  provider    : OAuth 서비스 이름
+     * @param  accessToken : OAuth 서비스로부터 발급받은 Access Token
+     * @return boolean     : 연결 끊기 성공 여부
+     */
+    public boolean unlink(String provider, String accessToken) {
+        OAuth2HttpProperties.Provider settings = properties.getProviders().get(provider);
+
+        if(settings == null || !StringUtils.hasText(settings.getUnlinkUri())) {
+            log.error("연결 끊기 API 주소가 없습니다. : {}", provider);
+            return false;
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(settings.getUnlinkUri()))
+                .timeout(readTimeout(provider))
+                .header("Authorization", "Bearer " + accessToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        for(int attempt = 1; ; attempt++) {
+            int status = 0;
+
+            try {
+                HttpResponse<String> response = send(provider, request);
+                status = response != null ? response.statusCode() : 0;
+            } catch (IOException e) {
+                log.error("연결 끊기 실패 ({}회) : {}", attempt, e.getMessage());
+            }
+
+            if(status == 200) {
+                return true;
+            }
+
+            // 4xx(429 제외)는 재시도해도 같은 결과
+            boolean retryable = status == 0 || status == 429 || status >= 500;
+
+            if(!retryable || attempt >= properties.getUnlinkMaxAttempts()) {
+                log.error("연결 끊기 실패 : provider={}, status={}, attempts={}", provider, status, attempt);
+                return false;
+            }
+
+            meterRegistry.counter("auth.oauth.retry", "provider", provider).increment();
+
+            if(!sleep(backoff(attempt))) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 동시 호출 수 제한 후 요청 전송
+     *
+     * @param  provider             : OAuth 서비스 이름
+     * @param  request              : 요청
+     * @return HttpResponse<String> : 응답(동시 호출 수 초과 => null)
+     * @throws IOException : 연결 실패, 응답 시간 초과인 경우
+     */
+    private HttpResponse<String> send(String provider, HttpRequest request) throws IOException {
+        Semaphore bulkhead = bulkheads.computeIfAbsent(provider, key -> new Semaphore(maxConcurrentCalls(key)));
+
+        try {
+            if(!bulkhead.tryAcquire(properties.getAcquireTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                meterRegistry.counter("auth.oauth.rejected", "provider", provider).increment();
+                log.error("OAuth 서비스 동시 호출 수 초과 : {}", provider);
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("OAuth 서비스 호출 대기 중 중단", e);
+        }
+
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("OAuth 서비스 호출 중 중단", e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 재시도 대기 시간(Full Jitter)
+     * 0 ~ min(최대 대기 시간, 대기 시간 * 2^(시도 횟수 - 1)) 사이 임의 값
+     *
+     * @param  attempt : 시도 횟수
+     * @return long    : 대기 시간(ms)
+     */
+    private long backoff(int attempt) {
+        long base = properties.getUnlinkBackoff().toMillis() << Math.min(attempt - 1, 16);
+        long cap  = Math.min(properties.getUnlinkMaxBackoff().toMillis(), base);
+
+        return cap > 0 ? ThreadLocalRandom.current().nextLong(cap + 1) : 0;
+    }
+
+    private Duration readTimeout(String provider) {
+        OAuth2HttpProperties.Provider settings = properties.getProviders().get(provider);
+
+        return settings != null && settings.getReadTimeout() != null ? settings.getReadTimeout() : properties.getReadTimeout();
+    }
+
+    private int maxConcurrentCalls(String provider) {
+        OAuth2HttpProperties.Provider settings = properties.getProviders().get(provider);
+
+        return settings != null && settings.getMaxConcurrentCalls() != null ? settings.getMaxConcurrentCalls() : properties.getMaxConcurrentCalls();
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
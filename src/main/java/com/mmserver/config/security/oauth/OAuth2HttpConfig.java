@@ -0,0 +1,26 @@
+package com.mmserver.config.security.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OAuth 서비스 호출 환경 세팅
+ */
+@Configuration
+@EnableConfigurationProperties(OAuth2HttpProperties.class)
+public class OAuth2HttpConfig {
+
+    /**
+     * OAuth 서비스 호출 Client
+     *
+     * @param  properties       : OAuth 서비스 호출 설정
+     * @param  meterRegistry    : Meter Registry
+     * @return OAuth2HttpClient : OAuth 서비스 호출 Client
+     */
+    @Bean
+    public OAuth2HttpClient oAuth2HttpClient(OAuth2HttpProperties properties, MeterRegistry meterRegistry) {
+        return new OAuth2HttpClient(properties, meterRegistry);
+    }
+}
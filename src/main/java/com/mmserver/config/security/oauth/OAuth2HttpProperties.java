@@ -0,0 +1,81 @@
+package com.mmserver.config.security.oauth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * OAuth 서비스(사용자 정보, 연결 끊기) 호출 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "oauth.http")
+public class OAuth2HttpProperties {
+
+    /**
+     * 연결 대기 시간
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 응답 대기 시간(OAuth 서비스 별 설정이 없는 경우)
+     */
+    private Duration readTimeout = Duration.ofSeconds(3);
+
+    /**
+     * OAuth 서비스 별 최대 동시 호출 수(Bulkhead)
+     */
+    private int maxConcurrentCalls = 20;
+
+    /**
+     * 동시 호출 수 초과 시 최대 대기 시간
+     */
+    private Duration acquireTimeout = Duration.ofMillis(100);
+
+    /**
+     * 연결 끊기 최대 시도 횟수
+     */
+    private int unlinkMaxAttempts = 3;
+
+    /**
+     * 연결 끊기 재시도 대기 시간(시도마다 2배, 0 ~ 대기 시간 사이 임의 값)
+     */
+    private Duration unlinkBackoff = Duration.ofMillis(200);
+
+    /**
+     * 연결 끊기 재시도 최대 대기 시간
+     */
+    private Duration unlinkMaxBackoff = Duration.ofSeconds(2);
+
+    /**
+     * OAuth 서비스 별 설정
+     */
+    private Map<String, Provider> providers = new LinkedHashMap<>();
+
+    /**
+     * OAuth 서비스 설정
+     */
+    @Getter
+    @Setter
+    public static class Provider {
+
+        /**
+         * 응답 대기 시간(없는 경우 기본 설정)
+         */
+        private Duration readTimeout;
+
+        /**
+         * 최대 동시 호출 수(없는 경우 기본 설정)
+         */
+        private Integer maxConcurrentCalls;
+
+        /**
+         * 연결 끊기 API 주소
+         */
+        private String unlinkUri;
+    }
+}
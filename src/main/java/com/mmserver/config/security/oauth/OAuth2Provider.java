@@ -1,10 +1,10 @@
 package com.mmserver.config.security.oauth;
 
 import com.mmserver.config.security.UserInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -12,9 +12,6 @@ import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.Map;
 
 /**
@@ -22,8 +19,19 @@ import java.util.Map;
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class OAuth2Provider implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
+    /**
+     * Meter Registry
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * OAuth 서비스 호출 Client
+     */
+    private final OAuth2HttpClient oAuth2HttpClient;
+
     /**
      * UserInfo Endpoint에서 최종 사용자의 사용자 정보를 가져옴
      * Authentication 생성을 위한 OAuth2User 객체를 반환
@@ -37,19 +45,16 @@ public class OAuth2Provider implements OAuth2UserService<OAuth2UserRequest, OAut
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         log.info("OAuth2 Load User");
 
-        // OAuth2UserService 구현체 DefaultOAuth2UserService 사용
-        OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService = new DefaultOAuth2UserService();
-
-        // OAuth 서비스에서 가져온 사용자 정보를 담고 있는 OAuth2User 인스턴스를 받음
-        OAuth2User oAuth2User = oAuth2UserService.loadUser(userRequest);
-        // 사용자 정보 추출
-        Map<String, Object> attributes = oAuth2User.getAttributes();
-        log.info("User Attributes : {}", attributes);
-
         // OAuth 서비스 이름
         String oauth = userRequest.getClientRegistration().getRegistrationId();
         log.info("OAuth2  : {}", oauth);
 
+        // OAuth 서비스에서 사용자 정보 조회
+        String userInfoUri = userRequest.getClientRegistration().getProviderDetails().getUserInfoEndpoint().getUri();
+        Map<String, Object> attributes = providerTimer("userInfo", oauth).record(
+                () -> oAuth2HttpClient.getUserInfo(oauth, userInfoUri, userRequest.getAccessToken().getTokenValue()));
+        log.info("User Attributes : {}", attributes);
+
         // OAuth 서비스의 유저 정보
         OAuth2UserInfo userInfo = OAuth2UserInfo.of(oauth, attributes);
         log.info("userInfo : {}", userInfo);
@@ -59,7 +64,7 @@ public class OAuth2Provider implements OAuth2UserService<OAuth2UserRequest, OAut
         // AccessToken을 통해 인증 정보 삭제 및 에러 메시지 출력
         if(userInfo.getEmail() == null){
             // 인증정보 삭제 여부
-            if(kakaoLogout(userRequest.getAccessToken().getTokenValue())){
+            if(providerTimer("unlink", oauth).record(() -> oAuth2HttpClient.unlink(oauth, userRequest.getAccessToken().getTokenValue()))){
                 throw new OAuth2AuthenticationException(new OAuth2Error("400"), "제공 항목 미동의 시, 계속 진행할 수 없습니다.");
             }else{
                 log.info("인증정보 삭제 실패");
@@ -73,36 +78,17 @@ public class OAuth2Provider implements OAuth2UserService<OAuth2UserRequest, OAut
     }
 
     /**
-     * Kakao 계정 로그아웃
-     * Access Token을 통해 사용자 Access Token과 Refresh Token 만료 시킴
+     * OAuth 서비스 호출 시간 Timer 조회
      *
-     * @param  accessToken : OAuth 기관으로부터 발급받은 Access Token
-     * @return boolean     : 통신 결과
+     * @param  operation : 호출 API
+     * @param  provider  : OAuth 서비스 이름
+     * @return Timer     : 호출 시간 Timer
      */
-    private boolean kakaoLogout(String accessToken) {
-        log.info("Kakao Logout");
-        log.info("Kakao Access Token : {}", accessToken);
-
-        int result = 0;
-
-        final String host = "https://kapi.kakao.com/v1/user/unlink";
-
-        try {
-            URL url = new URL(host);
-
-            // 페이지 정보 가져오기
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            // 요청 정보 세팅
-            connection.setRequestMethod(HttpMethod.POST.name());
-            connection.setDoOutput(true);
-            connection.setRequestProperty("Authorization", "Bearer " + accessToken);
-
-            // 요청 결과 HttpStatus 확인
-            result = connection.getResponseCode();
-        } catch (IOException e) {
-            log.error(e.getMessage());
-        }
-
-        return result == HttpStatus.OK.value();
+    private Timer providerTimer(String operation, String provider) {
+        return Timer.builder("auth.oauth.request")
+                .description("OAuth 서비스 호출 시간")
+                .tag("operation", operation)
+                .tag("provider", provider)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
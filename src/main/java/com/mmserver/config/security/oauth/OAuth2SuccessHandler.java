@@ -1,11 +1,13 @@
 package com.mmserver.config.security.oauth;
 
+import com.mmserver.config.cache.UserInfoCache;
 import com.mmserver.config.security.UserInfo;
 import com.mmserver.config.security.jwt.JwtProvider;
 import com.mmserver.domain.model.Token;
 import com.mmserver.domain.model.User;
-import com.mmserver.repository.RedisRepository;
+import com.mmserver.repository.RefreshTokenRepository;
 import com.mmserver.repository.UserRepository;
+import com.mmserver.service.UserExistenceService;
 import com.mmserver.utils.CookieUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.LocalDate;
 
 import static com.mmserver.config.security.oauth.OAuth2AuthorizationRequestRepository.COOKIE_KEY;
 
@@ -37,18 +40,28 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
     /**
      * Refresh Token을 관리 Repository
      */
-    private final RedisRepository redisRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     /**
      * JWT 토큰 관리 Component
      */
     private final JwtProvider jwtProvider;
 
+    /**
+     * 사용자 이메일, 이름 존재 여부 확인 Service
+     */
+    private final UserExistenceService userExistenceService;
+
+    /**
+     * 사용자 정보 Near Cache
+     */
+    private final UserInfoCache userInfoCache;
+
     /**
      * 성공적으로 인증되면 호출
      * 전송받은 URL로 Redirect 작업 수행
-     *     사용자 정보가 있는 경우 : 사용자 정보 수정
-     *     사용자 정보가 없는 경우 : 사용자 정보 수정
+     *     사용자 정보가 있는 경우 : 최근 로그인 시간, 로그인 포인트 수정
+     *     사용자 정보가 없는 경우 : 사용자 정보 저장
      *
      * @param request        : 로그인 시, 요청 객체
      * @param response       : 응답 객체
@@ -67,18 +80,15 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         User userInfo = principal.getUser();
         log.info("userInfo : {}", userInfo);
 
-        // DB에 저장된 정보가 있는지 확인
-        // 있다면 조회된 정보로 세팅
-        // 없다면 Authentication에 저장된 User 객체로 세팅
-        User user = userRepository.findByEmail(userInfo.getEmail())
-                .orElse(userInfo);
-        log.info("findUser : {}", user);
-
-        // 사용자 정보 업데이트
-        user.mainInfoUpdate(user);
+        // 사용자 저장(Upsert)
+        // 신규 사용자는 저장, 기존 사용자는 최근 로그인 시간, 로그인 포인트 반영 후 저장된 정보 반환
+        User user = userRepository.upsertOAuthUser(userInfo, LocalDate.now());
+        log.info("upsertUser : {}", user);
 
-        // 사용자 정보 저장/수정
-        userRepository.save(user);
+        // 중복확인 Bloom Filter에 추가(이미 있는 경우 무시)
+        userExistenceService.register(user.getEmail(), user.getUserName());
+        // 포인트가 변경되었을 수 있으므로 모든 노드의 캐시 무효화
+        userInfoCache.invalidate(user.getEmail(), false);
 
         // 조회된 사용자 세팅
         principal.setUser(user);
@@ -91,7 +101,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         jwtProvider.setHeaderAccessToken(response, accessToken.getToken());
 
         // Redis에 Refesh Token 저장
-        redisRepository.save(refreshToken);
+        refreshTokenRepository.save(refreshToken, accessToken.getToken());
 
         // Cookie에서 targetUri 추출
         String targetUri = getTargetUri(request, user);
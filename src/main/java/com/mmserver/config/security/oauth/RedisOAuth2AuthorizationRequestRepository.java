@@ -0,0 +1,298 @@
+package com.mmserver.config.security.oauth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mmserver.utils.CookieUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.mmserver.config.security.oauth.OAuth2AuthorizationRequestRepository.COOKIE_KEY;
+import static com.mmserver.config.security.oauth.OAuth2AuthorizationRequestRepository.REQUEST_COOKIE_KEY;
+
+/**
+ * 권한을 부여하기 전 처리를 위한 클래스(Redis 저장)
+ * OAuth2LoginAuthenticationFillter에서 사용
+ *
+ *  - OAuth2AuthorizationRequest를 JSON으로 변환해서 state 값을 Key로 Redis에 저장(만료 시간 60초)
+ *  - Cookie에는 Java 직렬화된 객체 대신 서명된 state 값(Handle)만 저장
+ *    => Cookie 크기 수 KB => 100 byte 미만, 콜백 시 Java 역직렬화 없음
+ *  - 콜백 시 조회와 동시에 삭제(Lua Script)해서 한번만 사용 가능
+ */
+@Slf4j
+public class RedisOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    /**
+     * Redis Key Prefix
+     */
+    private static final String KEY_PREFIX = "oauth2:req:";
+
+    /**
+     * 요청 저장 시간(Cookie 만료 시간과 동일)
+     */
+    private static final Duration EXPIRE_TIME = Duration.ofSeconds(60);
+
+    /**
+     * 서명 길이(byte)
+     */
+    private static final int SIGNATURE_LENGTH = 16;
+
+    /**
+     * state 값 형식(Spring Security 기본 => Base64 URL 32 byte)
+     */
+    private static final Pattern STATE_PATTERN = Pattern.compile("[A-Za-z0-9_=-]{1,128}");
+
+    /**
+     * 요청 조회 후 삭제 Script
+     */
+    private static final RedisScript<String> TAKE_SCRIPT = takeScript();
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Handle 서명 Key
+     */
+    private final SecretKeySpec signingKey;
+
+    /**
+     * 생성자
+     *
+     * @param redisTemplate : Redis Template
+     * @param secret        : Handle 서명 Key
+     */
+    public RedisOAuth2AuthorizationRequestRepository(StringRedisTemplate redisTemplate, String secret) {
+        this.redisTemplate = redisTemplate;
+        this.signingKey    = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    /**
+     * 요청 객체의 Cookie(Handle)에 해당하는 OAuth2AuthorizationRequest 반환
+     *
+     * @param  request                    : 요청 객체
+     * @return OAuth2AuthorizationRequest : OAuth2AuthorizationRequest 객체
+     *                                      (사용할 수 없는 경우 null 반환)
+     */
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = resolveState(request);
+
+        return state != null ? decode(redisTemplate.opsForValue().get(KEY_PREFIX + state)) : null;
+    }
+
+    /**
+     * OAuth2AuthorizationRequest 객체를 Redis에 저장하고 Cookie에 Handle 저장
+     *
+     * @param authorizationRequest : 요청에 포함된 OAuth2AuthorizationRequest 객체
+     * @param request              : 요청 객체
+     * @param response             : 응답 객체
+     */
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest, HttpServletRequest request, HttpServletResponse response) {
+        // 사용여부 확인
+        if (authorizationRequest == null) {
+            removeAuthorizationRequest(request, response);
+            return;
+        }
+
+        String state = authorizationRequest.getState();
+
+        if (state == null || !STATE_PATTERN.matcher(state).matches()) {
+            throw new IllegalArgumentException("OAuth2 state 값 형식이 올바르지 않습니다.");
+        }
+
+        int cookieExpireSeconds = (int) EXPIRE_TIME.getSeconds();
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + state, encode(authorizationRequest), EXPIRE_TIME);
+        CookieUtils.addCookie(response, REQUEST_COOKIE_KEY, state + "." + sign(state), cookieExpireSeconds);
+
+        // 요청객체에서  Redirect URI 추출
+        String redirectUriAfterLogin = request.getParameter(COOKIE_KEY);
+
+        if (StringUtils.hasText(redirectUriAfterLogin)) {
+            // Cookie에 Redirect URI 추가
+            CookieUtils.addCookie(response, COOKIE_KEY, redirectUriAfterLogin, cookieExpireSeconds);
+        }
+    }
+
+    /**
+     * 요청 객체의 Cookie(Handle)에 해당하는 OAuth2AuthorizationRequest 반환 후 삭제
+     *
+     * @param  request                    : 요청 객체
+     * @return OAuth2AuthorizationRequest : 삭제된 OAuth2AuthorizationRequest
+     *                                      (사용할 수 없는 경우 null 반환)
+     */
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request) {
+        String state = resolveState(request);
+
+        return state != null ? decode(redisTemplate.execute(TAKE_SCRIPT, Collections.singletonList(KEY_PREFIX + state))) : null;
+    }
+
+    /**
+     * 요청 객체의 Cookie(Handle)에 해당하는 OAuth2AuthorizationRequest 반환 후 삭제
+     * (Handle Cookie도 삭제)
+     *
+     * @param  request                    : 요청 객체
+     * @param  response                   : 응답 객체
+     * @return OAuth2AuthorizationRequest : 삭제된 OAuth2AuthorizationRequest
+     *                                      (사용할 수 없는 경우 null 반환)
+     */
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = removeAuthorizationRequest(request);
+        CookieUtils.deleteCookie(request, response, REQUEST_COOKIE_KEY);
+
+        return authorizationRequest;
+    }
+
+    /**
+     * Cookie(Handle)의 서명 확인 후 state 값 반환
+     * 콜백 요청의 state Parameter가 있는 경우 일치 여부도 확인
+     *
+     * @param  request : 요청 객체
+     * @return String  : state 값(확인 실패 => null)
+     */
+    private String resolveState(HttpServletRequest request) {
+        String handle = CookieUtils.getCookie(request, REQUEST_COOKIE_KEY).map(Cookie::getValue).orElse(null);
+
+        if (handle == null) {
+            return null;
+        }
+
+        int separator = handle.lastIndexOf('.');
+
+        if (separator <= 0) {
+            return null;
+        }
+
+        String state = handle.substring(0, separator);
+        byte[] signature = handle.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+
+        if (!STATE_PATTERN.matcher(state).matches()
+                || !MessageDigest.isEqual(signature, sign(state).getBytes(StandardCharsets.US_ASCII))) {
+            log.error("OAuth2 요청 Handle 서명 불일치");
+            return null;
+        }
+
+        String stateParameter = request.getParameter(OAuth2ParameterNames.STATE);
+
+        if (stateParameter != null && !stateParameter.equals(state)) {
+            log.error("OAuth2 state 값 불일치");
+            return null;
+        }
+
+        return state;
+    }
+
+    /**
+     * state 값 서명(HMAC-SHA256 앞 16 byte, Base64 URL)
+     *
+     * @param  state  : state 값
+     * @return String : 서명
+     */
+    private String sign(String state) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+
+            byte[] signature = Arrays.copyOf(mac.doFinal(state.getBytes(StandardCharsets.US_ASCII)), SIGNATURE_LENGTH);
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * OAuth2AuthorizationRequest => JSON
+     */
+    private String encode(OAuth2AuthorizationRequest authorizationRequest) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("authorizationUri",        authorizationRequest.getAuthorizationUri());
+        values.put("clientId",                authorizationRequest.getClientId());
+        values.put("redirectUri",             authorizationRequest.getRedirectUri());
+        values.put("scopes",                  authorizationRequest.getScopes());
+        values.put("state",                   authorizationRequest.getState());
+        values.put("additionalParameters",    authorizationRequest.getAdditionalParameters());
+        values.put("attributes",              authorizationRequest.getAttributes());
+        values.put("authorizationRequestUri", authorizationRequest.getAuthorizationRequestUri());
+
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (IOException e) {
+            throw new IllegalStateException("OAuth2 요청 변환 실패", e);
+        }
+    }
+
+    /**
+     * JSON => OAuth2AuthorizationRequest
+     * (Authorization Code Grant만 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private OAuth2AuthorizationRequest decode(String json) {
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            Map<String, Object> values = objectMapper.readValue(json, MAP_TYPE);
+
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri((String) values.get("authorizationUri"))
+                    .clientId((String) values.get("clientId"))
+                    .redirectUri((String) values.get("redirectUri"))
+                    .scopes(new LinkedHashSet<>((List<String>) values.get("scopes")))
+                    .state((String) values.get("state"))
+                    .additionalParameters((Map<String, Object>) values.get("additionalParameters"))
+                    .attributes((Map<String, Object>) values.get("attributes"))
+                    .authorizationRequestUri((String) values.get("authorizationRequestUri"))
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            log.error("OAuth2 요청 변환 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 요청 조회 후 삭제 Script 로드
+     *
+     * @return RedisScript<String> : 조회 후 삭제 Script
+     */
+    private static RedisScript<String> takeScript() {
+        DefaultRedisScript<String> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/take_oauth2_request.lua")));
+        script.setResultType(String.class);
+
+        return script;
+    }
+}
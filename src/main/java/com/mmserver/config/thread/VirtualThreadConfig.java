@@ -0,0 +1,117 @@
+package com.mmserver.config.thread;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 Thread 요청 처리 환경 세팅
+ * (server.virtualThreads.enabled=true, JDK 21 이상에서 실행한 경우만 사용)
+ *
+ *  - Tomcat 요청 처리 Thread Pool 대신 요청마다 가상 Thread 생성
+ *    => JDBC, Redis, OAuth2 API 호출 대기 동안 Carrier Thread를 반납하므로 Thread 수가 동시 처리 한도가 아님
+ *  - 소스는 Java 11 기준이므로 가상 Thread API는 Reflection으로 호출
+ *  - Guardrail
+ *    1. synchronized 안에서 대기해서 Carrier Thread에 고정(Pinned)된 경우 Stack 출력(jdk.tracePinnedThreads)
+ *    2. 동시 요청 수가 JDBC Pool 크기를 넘으면 Connection 대기가 길어지므로,
+ *       대기 시간(Connection Timeout)을 줄여서 빠르게 실패 처리
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "server.virtualThreads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * 요청마다 가상 Thread를 생성하는 Executor
+     */
+    private final ExecutorService executor;
+
+    /**
+     * 생성자
+     *
+     * @param tracePinned : 가상 Thread 고정 시 Stack 출력 방식(short, full, off)
+     */
+    public VirtualThreadConfig(@Value("${server.virtualThreads.tracePinned:short}") String tracePinned) {
+        // 첫 가상 Thread 생성 전에 설정해야 적용됨
+        if(!"off".equalsIgnoreCase(tracePinned) && System.getProperty("jdk.tracePinnedThreads") == null) {
+            System.setProperty("jdk.tracePinnedThreads", tracePinned);
+        }
+
+        this.executor = newVirtualThreadPerTaskExecutor();
+
+        log.info("가상 Thread 요청 처리 사용 (Java {})", System.getProperty("java.version"));
+    }
+
+    /**
+     * Tomcat 요청 처리 Executor를 가상 Thread Executor로 변경
+     * (server.tomcat.threads.max 대신 server.tomcat.max-connections가 동시 처리 한도)
+     *
+     * @return TomcatProtocolHandlerCustomizer<ProtocolHandler> : Tomcat Protocol Handler 설정
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * JDBC Connection 대기 시간 제한
+     *
+     * @param  acquireTimeout    : 최대 Connection 대기 시간
+     * @return BeanPostProcessor : HikariDataSource 설정
+     */
+    @Bean
+    public static BeanPostProcessor virtualThreadDataSourceGuard(@Value("${server.virtualThreads.jdbcAcquireTimeout:2s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(bean instanceof HikariDataSource) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+
+                    if(dataSource.getConnectionTimeout() > acquireTimeout.toMillis()) {
+                        dataSource.setConnectionTimeout(acquireTimeout.toMillis());
+                    }
+
+                    log.info("가상 Thread JDBC Pool : maximumPoolSize={}, connectionTimeout={}ms",
+                            dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 애플리케이션 종료 시, 가상 Thread Executor 종료
+     * (Tomcat은 외부에서 지정한 Executor를 종료하지 않음)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() 호출
+     *
+     * @return ExecutorService : 가상 Thread Executor
+     * @throws IllegalStateException : JDK 21 미만에서 실행한 경우
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 Thread는 JDK 21 이상에서 사용할 수 있습니다. (현재 Java "
+                    + System.getProperty("java.version") + ", server.virtualThreads.enabled=false로 실행)", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.mmserver.controller;
+
+import com.mmserver.config.security.UserInfo;
+import com.mmserver.domain.BidDto;
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.service.BidRouter;
+import com.mmserver.service.BidSubscriptionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.validation.Valid;
+
+/**
+ * 경매 진행 Controller
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auction")
+public class AuctionController {
+
+    /**
+     * 입찰 전달(경매 담당 노드에서 처리)
+     */
+    private final BidRouter bidRouter;
+
+    /**
+     * 경매 가격 실시간 전송 Service
+     */
+    private final BidSubscriptionService bidSubscriptionService;
+
+    /**
+     * 입찰
+     *
+     * @param  itemId                       : 경매 식별 값
+     * @param  bidDto                       : 입찰 정보
+     * @param  userInfo                     : 로그인 사용자 정보
+     * @return ResponseEntity<BidResultDto> : 입찰 결과
+     */
+    @PostMapping("/{itemId}/bid")
+    public ResponseEntity<BidResultDto> bid(@PathVariable Long itemId, @Valid @RequestBody BidDto bidDto,
+                                            @AuthenticationPrincipal UserInfo userInfo) {
+        return new ResponseEntity<>(bidRouter.bid(itemId, userInfo.getUser().getId(), bidDto.getBid()), HttpStatus.CREATED);
+    }
+
+    /**
+     * 경매 가격 구독(Server-Sent Events)
+     * (EventSource는 Header를 설정할 수 없으므로 Query Parameter(token)로도 인증 가능)
+     *
+     * @param  itemId     : 경매 식별 값
+     * @return SseEmitter : 구독 연결(price Event : 현재 가격, 입찰 수)
+     */
+    @GetMapping(value = "/{itemId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long itemId) {
+        return bidSubscriptionService.subscribe(itemId);
+    }
+}
@@ -76,21 +76,23 @@ public class AuthController {
      * 로그인
      *
      * @param  loginDTO    : 로그인 정보
+     * @param  request     : 요청 객체
      * @param  response    : 응답 객체
      * @return UserInfoDTO : 로그인 사용자 정보
      */
     @GetMapping("/login")
-    public UserInfoDto login(@ModelAttribute LoginDto loginDTO, HttpServletResponse response) {
-        return authService.login(loginDTO, response);
+    public UserInfoDto login(@ModelAttribute LoginDto loginDTO, HttpServletRequest request, HttpServletResponse response) {
+        return authService.login(loginDTO, request.getRemoteAddr(), response);
     }
 
     /**
      * 로그아웃
      *
-     * @param email : 사용자 이메일
+     * @param email   : 사용자 이메일
+     * @param request : 요청 객체
      */
     @DeleteMapping("/logout")
-    public void logout(@RequestParam String email) {
-        authService.logout(email);
+    public void logout(@RequestParam String email, HttpServletRequest request) {
+        authService.logout(email, request);
     }
 }
@@ -0,0 +1,37 @@
+package com.mmserver.controller;
+
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.domain.ForwardedBidDto;
+import com.mmserver.service.BidEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 노드 간 내부 요청 Controller
+ * (Cluster Secret으로 인증된 요청만 허용, {@link com.mmserver.config.cluster.ClusterSecretFilter})
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/auction")
+public class InternalAuctionController {
+
+    /**
+     * 입찰 처리 Engine
+     */
+    private final BidEngine bidEngine;
+
+    /**
+     * 다른 노드에서 전달된 입찰
+     * (노드 목록이 잠시 달라도 다시 전달하지 않고 현재 노드에서 처리)
+     *
+     * @param  itemId                       : 경매 식별 값
+     * @param  forwardedBidDto              : 입찰자, 입찰가
+     * @return ResponseEntity<BidResultDto> : 입찰 결과
+     */
+    @PostMapping("/{itemId}/bid")
+    public ResponseEntity<BidResultDto> bid(@PathVariable Long itemId, @RequestBody ForwardedBidDto forwardedBidDto) {
+        return new ResponseEntity<>(bidEngine.bid(itemId, forwardedBidDto.getBidderId(), forwardedBidDto.getBid()), HttpStatus.CREATED);
+    }
+}
@@ -0,0 +1,25 @@
+package com.mmserver.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.validation.constraints.Positive;
+import java.io.Serializable;
+
+/**
+ * 입찰 요청 객체
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BidDto implements Serializable {
+
+    /**
+     * 입찰가
+     */
+    @Positive
+    private long bid;
+}
@@ -0,0 +1,52 @@
+package com.mmserver.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 결과
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+public class BidResultDto implements Serializable {
+
+    /**
+     * 경매 식별 값
+     */
+    private Long itemId;
+
+    /**
+     * 입찰 순서
+     */
+    private long sortNo;
+
+    /**
+     * 입찰가(현재 가격)
+     */
+    private long bid;
+
+    /**
+     * 입찰 수
+     */
+    private long bidCount;
+
+    /**
+     * 입찰 시간
+     */
+    private LocalDateTime bidDate;
+
+    @Builder
+    public BidResultDto(Long itemId, long sortNo, long bid, long bidCount, LocalDateTime bidDate) {
+        this.itemId   = itemId;
+        this.sortNo   = sortNo;
+        this.bid      = bid;
+        this.bidCount = bidCount;
+        this.bidDate  = bidDate;
+    }
+}
@@ -20,7 +20,12 @@ public enum ErrorCode {
     /**
      * Refresh Token 만료
      */
-    JWT_REFRESH_TOKEN_EXPIRED(702, "만료된 Refresh Token 입니다.");
+    JWT_REFRESH_TOKEN_EXPIRED(702, "만료된 Refresh Token 입니다."),
+
+    /**
+     * 이미 교체된 Refresh Token 재사용
+     */
+    JWT_REFRESH_TOKEN_REUSED(703, "이미 사용된 토큰입니다. 다시 로그인해주세요.");
 
     private final int status;
 
@@ -7,23 +7,49 @@ public enum RoleType {
     /**
      * 관리자
      */
-    ADMIN("ROLE_ADMIN"),
+    ADMIN("ROLE_ADMIN", "A"),
     /**
      * 판매자
      */
-    MANAGER("ROLE_MANAGE"),
+    MANAGER("ROLE_MANAGE", "M"),
     /**
      * 사용자
      */
-    USER("ROLE_USER");
+    USER("ROLE_USER", "U");
 
     private final String value;
 
-    RoleType(String value) {
+    /**
+     * JWT Claim에 저장하는 축약 코드
+     */
+    private final String code;
+
+    RoleType(String value, String code) {
         this.value = value;
+        this.code  = code;
     }
 
     public String getValue() {
         return value;
     }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 축약 코드에 해당하는 권한 조회
+     *
+     * @param  code     : 축약 코드
+     * @return RoleType : 사용자 권한(해당하는 권한이 없는 경우 null 반환)
+     */
+    public static RoleType ofCode(String code) {
+        for (RoleType role : values()) {
+            if (role.code.equals(code)) {
+                return role;
+            }
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,28 @@
+package com.mmserver.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 다른 노드에서 전달된 입찰 요청 객체
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ForwardedBidDto implements Serializable {
+
+    /**
+     * 입찰자 아이디(전달한 노드에서 인증된 사용자)
+     */
+    private Long bidderId;
+
+    /**
+     * 입찰가
+     */
+    private long bid;
+}
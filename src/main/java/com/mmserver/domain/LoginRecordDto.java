@@ -0,0 +1,32 @@
+package com.mmserver.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 로그인 기록 객체
+ * (최근 로그인 시간, 포인트 일괄 반영에 사용)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class LoginRecordDto {
+
+    /**
+     * 사용자 식별 값
+     */
+    private Long userId;
+
+    /**
+     * 사용자 아이디
+     */
+    private String email;
+
+    /**
+     * 로그인 날짜
+     */
+    private LocalDate loginDate;
+}
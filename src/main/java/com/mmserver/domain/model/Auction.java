@@ -0,0 +1,88 @@
+package com.mmserver.domain.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 경매 진행(입찰) 관리 Entity
+ *
+ *  - 입찰 순서(sort_no)는 입찰 처리(BidEngine)에서 발급하므로 식별 값 생성 전략 없음
+ *  - 입찰 기록은 변경하지 않고 추가만 하기 때문에 저장 시 항상 INSERT(조회 없음)
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+@Entity
+@Table(name = "auction")
+@IdClass(AuctionId.class)
+public class Auction implements Persistable<AuctionId> {
+
+    /**
+     * 경매 식별 값
+     */
+    @Id
+    private Long itemId;
+
+    /**
+     * 입찰 순서
+     */
+    @Id
+    private Long sortNo;
+
+    /**
+     * 입찰자 아이디(사용자 식별 값)
+     */
+    @Column(name = "id")
+    private Long bidderId;
+
+    /**
+     * 입찰가
+     */
+    @Column(nullable = false)
+    private long bid;
+
+    /**
+     * 입찰 시간
+     */
+    private LocalDateTime bidDate;
+
+    /**
+     * 입찰 기록 생성
+     *
+     * @param  itemId   : 경매 식별 값
+     * @param  sortNo   : 입찰 순서
+     * @param  bidderId : 입찰자 아이디
+     * @param  bid      : 입찰가
+     * @param  bidDate  : 입찰 시간
+     * @return Auction  : 입찰 기록
+     */
+    public static Auction of(Long itemId, Long sortNo, Long bidderId, long bid, LocalDateTime bidDate) {
+        Auction auction = new Auction();
+        auction.itemId   = itemId;
+        auction.sortNo   = sortNo;
+        auction.bidderId = bidderId;
+        auction.bid      = bid;
+        auction.bidDate  = bidDate;
+
+        return auction;
+    }
+
+    @Override
+    public AuctionId getId() {
+        return new AuctionId(itemId, sortNo);
+    }
+
+    /**
+     * 항상 새로운 입찰 기록
+     * (save 시 merge 전 조회 생략)
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
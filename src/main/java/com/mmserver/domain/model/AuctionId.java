@@ -0,0 +1,27 @@
+package com.mmserver.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 경매 진행 식별 값(PK)
+ * {@link Auction}
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AuctionId implements Serializable {
+
+    /**
+     * 경매 식별 값
+     */
+    private Long itemId;
+
+    /**
+     * 입찰 순서
+     */
+    private Long sortNo;
+}
@@ -0,0 +1,84 @@
+package com.mmserver.domain.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 경매 관리 Entity
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "item")
+public class Item {
+
+    /**
+     * 식별 값(PK)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 등록자 아이디(사용자 식별 값)
+     */
+    private Long userId;
+
+    /**
+     * 경매 제목
+     */
+    @Column(length = 100, nullable = false)
+    private String title;
+
+    /**
+     * 경매 소개
+     */
+    @Column(length = 3000, nullable = false)
+    private String content;
+
+    /**
+     * 시작 가격
+     */
+    private long price;
+
+    /**
+     * 경매 시작 시간
+     */
+    @Column(nullable = false)
+    private LocalDateTime strDate;
+
+    /**
+     * 낙찰 가격(0 => 진행 중)
+     */
+    private long winPrice;
+
+    /**
+     * 등록 시간
+     */
+    private LocalDateTime createDate;
+
+    /**
+     * 낙찰된 경매인지 확인
+     *
+     * @return boolean : 낙찰 가격이 있는 경우 => true
+     */
+    public boolean isClosed() {
+        return winPrice > 0;
+    }
+
+    @Override
+    public String toString() {
+        // 경매 소개 제외
+        return "Item{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", title='" + title + '\'' +
+                ", price=" + price +
+                ", strDate=" + strDate +
+                ", winPrice=" + winPrice +
+                '}';
+    }
+}
@@ -1,8 +1,6 @@
 package com.mmserver.domain.model;
 
 import lombok.*;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
 
 import java.util.Date;
 
@@ -12,13 +10,11 @@ import java.util.Date;
 @Getter
 @NoArgsConstructor
 @ToString
-@RedisHash("auth")
 public class Token {
 
     /**
      * 사용자 key 값(PK)
      */
-    @Id
     private String key;
 
     /**
@@ -24,6 +24,11 @@ import java.time.LocalDateTime;
                 name        = "EMAIL_UNIQUE",
                 columnNames = "email"
         )
+}, indexes = {
+        @Index(
+                name       = "idx_user_name",
+                columnList = "user_name"
+        )
 })
 public class User {
 
@@ -130,6 +135,52 @@ public class User {
         this.userName = userName;
     }
 
+    /**
+     * JWT Claims를 통해 인증정보 생성 시,
+     * Authentication에 저장하기 위한 인스턴스 반환
+     *
+     * @param  id     : 식별 값
+     * @param  email  : 사용자 아이디
+     * @param  role   : 사용자 권한
+     * @param  lockYn : 계정 잠금 여부
+     * @return User   : 사용자 정보
+     */
+    public static User ofPrincipal(Long id, String email, RoleType role, String lockYn) {
+        User user = new User();
+        user.id     = id;
+        user.email  = email;
+        user.role   = role;
+        user.lockYn = lockYn;
+
+        return user;
+    }
+
+    /**
+     * 소셜 로그인 저장(Upsert) 결과 인스턴스 반환
+     *
+     * @param  id        : 식별 값
+     * @param  email     : 사용자 아이디
+     * @param  oauth     : OAuth 서비스 이름
+     * @param  userName  : 사용자 이름
+     * @param  role      : 사용자 권한
+     * @param  point     : 포인트
+     * @param  theme     : 테마 설정 값
+     * @param  lockYn    : 계정 잠금 여부
+     * @param  lastLogin : 최근 로그인 시간
+     * @return User      : 사용자 정보
+     */
+    public static User ofUpsert(Long id, String email, String oauth, String userName, RoleType role,
+                                int point, int theme, String lockYn, LocalDate lastLogin) {
+        User user = ofPrincipal(id, email, role, lockYn);
+        user.oauth     = oauth;
+        user.userName  = userName;
+        user.point     = point;
+        user.theme     = theme;
+        user.lastLogin = lastLogin;
+
+        return user;
+    }
+
     /**
      * 소셜 로그인
      * User DB에 저장하기위한 인스턴스 반환
@@ -175,17 +226,41 @@ public class User {
     }
 
     /**
-     * 비밀번호 실패 횟수 증가
+     * 비밀번호 변경
+     * (암호화 설정 변경으로 다시 암호화한 경우)
+     *
+     * @param password : 암호화된 비밀번호
+     */
+    public void passwordUpdate(String password) {
+        this.password = password;
+    }
+
+    /**
+     * 로그인 실패 횟수 초과로 계정 잠금
+     * (실패 횟수는 Redis에서 관리하고, 잠금 상태로 전환된 경우만 반영)
+     *
+     * @param failCnt : 잠금 시점의 실패 횟수
+     */
+    public void lock(int failCnt) {
+        this.failCnt = failCnt;
+        this.lockYn  = "Y";
+    }
+
+    /**
+     * 계정 잠금 해제, 비밀번호 실패 횟수 초기화
      */
-    public void addFailCnt() {
-        failCnt++;
+    public void unlock() {
+        this.failCnt = 0;
+        this.lockYn  = "N";
     }
 
     /**
-     * 비밀번호 실패 횟수 초기화
+     * 잠금 해제가 필요한 상태인지 확인
+     *
+     * @return boolean : 잠금 상태이거나 실패 횟수가 남아있는 경우 => true
      */
-    public void initFailCnt() {
-        failCnt = 0;
+    public boolean isLockedOrFailed() {
+        return "Y".equals(lockYn) || failCnt > 0;
     }
 
     /**
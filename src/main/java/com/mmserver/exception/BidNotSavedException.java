@@ -0,0 +1,12 @@
+package com.mmserver.exception;
+
+/**
+ * 수락된 입찰 기록이 저장되지 않았거나 저장 결과를 확인하지 못한 경우 발생
+ */
+public class BidNotSavedException extends RuntimeException {
+
+    @Override
+    public String getMessage() {
+        return "입찰이 처리되지 않았습니다. 잠시 후 다시 시도해주세요.";
+    }
+}
@@ -0,0 +1,17 @@
+package com.mmserver.exception;
+
+/**
+ * 입찰할 수 없는 경우 발생
+ * (경매 시작 전, 종료된 경매, 본인 경매, 현재 입찰가 이하 금액)
+ */
+public class InvalidBidException extends RuntimeException {
+
+    /**
+     * 생성자
+     *
+     * @param message : 입찰 실패 사유
+     */
+    public InvalidBidException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mmserver.exception;
+
+/**
+ * 로그인 실패 횟수 초과로 잠긴 계정(또는 IP)으로 로그인한 경우 발생
+ */
+public class LockedAccountException extends RuntimeException {
+
+    @Override
+    public String getMessage() {
+        return "로그인 실패 횟수를 초과하여 잠긴 계정입니다. 잠시 후 다시 시도해주세요.";
+    }
+}
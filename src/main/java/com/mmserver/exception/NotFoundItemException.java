@@ -0,0 +1,12 @@
+package com.mmserver.exception;
+
+/**
+ * 경매 식별 값으로 조회된 경매 정보가 없는 경우 발생
+ */
+public class NotFoundItemException extends RuntimeException {
+
+    @Override
+    public String getMessage() {
+        return "존재하지 않는 경매입니다.";
+    }
+}
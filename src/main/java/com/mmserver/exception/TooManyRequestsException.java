@@ -0,0 +1,12 @@
+package com.mmserver.exception;
+
+/**
+ * 처리할 수 있는 요청 수를 초과한 경우 발생
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    @Override
+    public String getMessage() {
+        return "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+    }
+}
@@ -0,0 +1,22 @@
+package com.mmserver.repository;
+
+import com.mmserver.domain.model.Auction;
+import com.mmserver.domain.model.AuctionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 경매 진행(입찰) 데이터 관리 Repository
+ */
+public interface AuctionRepository extends JpaRepository<Auction, AuctionId> {
+
+    /**
+     * 마지막 입찰 기록 조회
+     * (PK(item_id, sort_no) 역순으로 한 건만 조회)
+     *
+     * @param  itemId            : 경매 식별 값
+     * @return Optional<Auction> : 마지막 입찰 기록
+     */
+    Optional<Auction> findTopByItemIdOrderBySortNoDesc(Long itemId);
+}
@@ -0,0 +1,10 @@
+package com.mmserver.repository;
+
+import com.mmserver.domain.model.Item;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 경매 데이터 관리 Repository
+ */
+public interface ItemRepository extends JpaRepository<Item, Long> {
+}
@@ -0,0 +1,138 @@
+package com.mmserver.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mmserver.repository.RefreshTokenRepository.KEY_PREFIX;
+
+/**
+ * 기존 @RedisHash("auth") 형식의 Refresh Token 정리
+ *
+ *  - auth:{사용자 아이디} Hash 중 만료되지 않은 토큰은 rt:{사용자 아이디} 형식으로 옮김
+ *  - auth:{사용자 아이디}, auth:{사용자 아이디}:idx, auth(Index Set) 삭제
+ *  - token.migration.enabled=true 인 경우만 애플리케이션 시작 시 한번 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "token.migration.enabled", havingValue = "true")
+public class RefreshTokenMigration implements ApplicationRunner {
+
+    /**
+     * 기존 Refresh Token Keyspace
+     */
+    private static final String LEGACY_KEYSPACE = "auth";
+
+    /**
+     * SCAN 한번에 조회할 Key 개수
+     */
+    private static final int SCAN_COUNT = 500;
+
+    /**
+     * Redis 문자열 처리 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 기존 Refresh Token 정리
+     *
+     * @param args : 애플리케이션 실행 인자
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("기존 Refresh Token 정리 시작");
+
+        List<String> legacyKeys = scanLegacyKeys();
+
+        int migrated = 0;
+        for (String legacyKey : legacyKeys) {
+            // Index Set은 삭제만 수행
+            if(!legacyKey.endsWith(":idx") && migrate(legacyKey)) {
+                migrated++;
+            }
+
+            redisTemplate.delete(legacyKey);
+        }
+
+        // 전체 Key Index Set 삭제
+        redisTemplate.delete(LEGACY_KEYSPACE);
+
+        log.info("기존 Refresh Token 정리 완료 - 삭제 : {}, 이전 : {}", legacyKeys.size(), migrated);
+    }
+
+    /**
+     * auth:* Key 조회
+     *
+     * @return List<String> : 기존 Refresh Token Key 목록
+     */
+    private List<String> scanLegacyKeys() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(LEGACY_KEYSPACE + ":*")
+                .count(SCAN_COUNT)
+                .build();
+
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> result = new ArrayList<>();
+
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                cursor.forEachRemaining(key -> result.add(new String(key, StandardCharsets.UTF_8)));
+            }
+
+            return result;
+        });
+
+        return keys == null ? new ArrayList<>() : keys;
+    }
+
+    /**
+     * 만료되지 않은 Refresh Token을 새로운 형식으로 저장
+     * (이미 새로운 형식으로 저장된 토큰이 있는 경우 유지)
+     *
+     * @param  legacyKey : 기존 Refresh Token Key
+     * @return boolean   : 이전 여부
+     */
+    private boolean migrate(String legacyKey) {
+        // HMGET auth:{사용자 아이디} key token tokenExpireTime
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(legacyKey, Arrays.<Object>asList("key", "token", "tokenExpireTime"));
+
+        String key        = (String) values.get(0);
+        String token      = (String) values.get(1);
+        String expireTime = (String) values.get(2);
+
+        if(!StringUtils.hasText(key) || !StringUtils.hasText(token) || !StringUtils.hasText(expireTime)) {
+            return false;
+        }
+
+        long expireMillis;
+        try {
+            expireMillis = Long.parseLong(expireTime) - System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            log.error("만료 시간 형식 오류 : {}", legacyKey);
+            return false;
+        }
+
+        if(expireMillis <= 0) {
+            return false;
+        }
+
+        Boolean result = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, token, expireMillis, TimeUnit.MILLISECONDS);
+
+        return Boolean.TRUE.equals(result);
+    }
+}
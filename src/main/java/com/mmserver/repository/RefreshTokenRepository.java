@@ -0,0 +1,288 @@
+package com.mmserver.repository;
+
+import com.mmserver.domain.model.Token;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token을 관리하기위한 Redis Repository
+ *
+ *  - 사용자 별 하나의 Key(rt:{사용자 아이디})에 "Access Token 지문:Refresh Token" 저장
+ *  - 토큰 만료 시간을 Redis 만료 시간으로 사용(만료된 토큰 자동 삭제)
+ *  - 저장, 조회, 삭제, 교체 모두 한번의 명령으로 처리
+ */
+@Slf4j
+@Repository
+public class RefreshTokenRepository {
+
+    /**
+     * Refresh Token Key Prefix
+     */
+    public static final String KEY_PREFIX = "rt:";
+
+    /**
+     * 교체된 토큰 Key Prefix
+     */
+    private static final String USED_KEY_PREFIX = "rt:used:";
+
+    /**
+     * 교체 직후 발급 결과 Key Prefix
+     */
+    private static final String GRACE_KEY_PREFIX = "rt:grace:";
+
+    /**
+     * 교체 직후 동일한 토큰으로 재요청을 허용하는 시간
+     * (여러 노드로 동시에 들어온 재발급 요청을 재사용으로 판단하지 않기 위함)
+     */
+    private static final long GRACE_MILLIS = Duration.ofSeconds(10).toMillis();
+
+    /**
+     * 토큰 지문 길이
+     */
+    private static final int FINGERPRINT_LENGTH = 22;
+
+    /**
+     * 지문과 토큰 구분자
+     */
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Refresh Token 교체 Script
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = rotateScript();
+
+    /**
+     * Redis 문자열 처리 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Meter Registry
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 명령 별 처리 시간
+     */
+    private final Timer saveTimer;
+
+    private final Timer findTimer;
+
+    private final Timer deleteTimer;
+
+    private final Timer rotateTimer;
+
+    /**
+     * 생성자
+     *
+     * @param redisTemplate : Redis 문자열 처리 Template
+     * @param meterRegistry : Meter Registry
+     */
+    public RefreshTokenRepository(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        this.saveTimer   = redisTimer(meterRegistry, "save");
+        this.findTimer   = redisTimer(meterRegistry, "find");
+        this.deleteTimer = redisTimer(meterRegistry, "delete");
+        this.rotateTimer = redisTimer(meterRegistry, "rotate");
+    }
+
+    /**
+     * Refresh Token 저장
+     * (SET key 지문:token PX 만료시간)
+     *
+     * @param token       : Refresh Token 정보
+     * @param accessToken : 함께 발급된 Access Token
+     */
+    public void save(Token token, String accessToken) {
+        long expireMillis = token.getTokenExpireTime().getTime() - System.currentTimeMillis();
+
+        // 이미 만료된 토큰은 저장하지 않음
+        if(expireMillis <= 0) {
+            log.info("만료된 Refresh Token : {}", token.getKey());
+            deleteById(token.getKey());
+            return;
+        }
+
+        saveTimer.record(() -> redisTemplate.opsForValue().set(KEY_PREFIX + token.getKey(), toValue(token, accessToken), expireMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Refresh Token 조회
+     *
+     * @param  key             : 사용자 아이디
+     * @return Optional<Token> : 토큰 정보
+     *                           (만료 시간은 Redis에서 관리하기 때문에 조회하지 않음)
+     */
+    public Optional<Token> findById(String key) {
+        return Optional.ofNullable(findTimer.record(() -> redisTemplate.opsForValue().get(KEY_PREFIX + key)))
+                .map(value -> Token.builder()
+                        .key(key)
+                        .token(value.substring(value.indexOf(SEPARATOR) + 1))
+                        .build());
+    }
+
+    /**
+     * Refresh Token 삭제
+     *
+     * @param key : 사용자 아이디
+     */
+    public void deleteById(String key) {
+        deleteTimer.record(() -> redisTemplate.delete(KEY_PREFIX + key));
+    }
+
+    /**
+     * Refresh Token 교체
+     * 제시된 Access Token과 함께 발급된 Refresh Token인 경우만 새로운 토큰으로 교체
+     * (비교, 교체, 재사용 확인을 Redis Script로 한번에 처리)
+     *
+     * @param  presentedToken  : 재발급 요청 시 제시된 Access Token
+     * @param  refreshToken    : 새로운 Refresh Token
+     * @param  accessToken     : 새로운 Access Token
+     * @return Rotation        : 교체 결과
+     */
+    public Rotation rotate(String presentedToken, Token refreshToken, String accessToken) {
+        String presented = fingerprint(presentedToken);
+        long expireMillis = refreshToken.getTokenExpireTime().getTime() - System.currentTimeMillis();
+
+        String result = rotateTimer.record(() -> redisTemplate.execute(ROTATE_SCRIPT,
+                Arrays.asList(KEY_PREFIX + refreshToken.getKey(), USED_KEY_PREFIX + presented, GRACE_KEY_PREFIX + presented),
+                presented,
+                toValue(refreshToken, accessToken),
+                String.valueOf(expireMillis),
+                accessToken,
+                String.valueOf(GRACE_MILLIS)));
+
+        log.info("Refresh Token 교체 결과 : {}", result);
+
+        Rotation rotation;
+        if(result == null) {
+            rotation = new Rotation(RotationStatus.NONE, null);
+        } else if(result.startsWith(RotationStatus.GRACE.name() + SEPARATOR)) {
+            rotation = new Rotation(RotationStatus.GRACE, result.substring(RotationStatus.GRACE.name().length() + 1));
+        } else {
+            RotationStatus status = RotationStatus.valueOf(result);
+            rotation = new Rotation(status, status == RotationStatus.ROTATED ? accessToken : null);
+        }
+
+        // 교체 결과 별 횟수(재사용 탐지 확인)
+        meterRegistry.counter("auth.token.rotation", "status", rotation.getStatus().name()).increment();
+
+        return rotation;
+    }
+
+    /**
+     * Access Token 지문 생성
+     * (SHA-256 Hash 앞부분을 Base64 URL 인코딩)
+     *
+     * @param  token  : Access Token
+     * @return String : 토큰 지문
+     */
+    public static String fingerprint(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, FINGERPRINT_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장 값 생성
+     *
+     * @param  refreshToken : Refresh Token 정보
+     * @param  accessToken  : 함께 발급된 Access Token
+     * @return String       : "Access Token 지문:Refresh Token"
+     */
+    private static String toValue(Token refreshToken, String accessToken) {
+        return fingerprint(accessToken) + SEPARATOR + refreshToken.getToken();
+    }
+
+    /**
+     * 명령 별 처리 시간 Timer 생성
+     *
+     * @param  meterRegistry : Meter Registry
+     * @param  operation     : 명령 이름
+     * @return Timer         : 처리 시간 Timer
+     */
+    private static Timer redisTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.redis")
+                .description("Refresh Token Redis 처리 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Refresh Token 교체 Script 로드
+     *
+     * @return RedisScript<String> : 교체 Script
+     */
+    private static RedisScript<String> rotateScript() {
+        DefaultRedisScript<String> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/rotate_refresh_token.lua")));
+        script.setResultType(String.class);
+
+        return script;
+    }
+
+    /**
+     * 교체 결과 상태
+     */
+    public enum RotationStatus {
+        /**
+         * 교체 성공
+         */
+        ROTATED,
+        /**
+         * 교체 직후 동일한 토큰으로 재요청
+         */
+        GRACE,
+        /**
+         * 이미 교체된 토큰 재사용
+         */
+        REUSED,
+        /**
+         * 저장된 토큰이 없거나 일치하지 않음
+         */
+        NONE
+    }
+
+    /**
+     * 교체 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Rotation {
+
+        /**
+         * 교체 결과 상태
+         */
+        private final RotationStatus status;
+
+        /**
+         * 사용할 Access Token
+         * (ROTATED, GRACE 인 경우만 존재)
+         */
+        private final String accessToken;
+    }
+}
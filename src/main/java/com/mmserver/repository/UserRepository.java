@@ -2,15 +2,44 @@ package com.mmserver.repository;
 
 import com.mmserver.domain.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 사용자 데이터 관리 Repository
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     Optional<User> findByEmail(String email);
 
-    Optional<User> findByUserName(String userName);
+    boolean existsByEmail(String email);
+
+    boolean existsByUserName(String userName);
+
+    /**
+     * 전체 사용자 이메일, 이름 조회
+     * (Entity 생성 없이 Fetch Size 단위로 읽기, 트랜잭션 안에서 사용 후 close 필요)
+     *
+     * @return Stream<UserKey> : 사용자 이메일, 이름
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly",  value = "true")
+    })
+    @Query("select u.email as email, u.userName as userName from User u")
+    Stream<UserKey> streamAllKeys();
+
+    /**
+     * 사용자 이메일, 이름 Projection
+     */
+    interface UserKey {
+
+        String getEmail();
+
+        String getUserName();
+    }
 }
@@ -0,0 +1,34 @@
+package com.mmserver.repository;
+
+import com.mmserver.domain.LoginRecordDto;
+import com.mmserver.domain.model.User;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자 데이터 관리 Repository(JDBC 직접 처리)
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 최근 로그인 시간, 로그인 포인트 일괄 반영
+     * 해당 날짜에 이미 반영된 사용자는 변경하지 않음
+     *
+     * @param  records : 로그인 기록
+     * @return int[]   : 기록 별 변경된 Row 수
+     */
+    int[] updateLastLogins(List<LoginRecordDto> records);
+
+    /**
+     * 소셜 로그인 사용자 저장(Upsert)
+     *
+     *  - 신규 사용자 : 저장 후 최초 로그인 포인트(100) 지급
+     *  - 기존 사용자 : 최근 로그인 시간, 로그인 포인트 반영({@link User#lastLoginUpdate()}와 동일)
+     *
+     * @param  user      : OAuth 서비스로부터 제공받은 사용자 정보(이메일, OAuth 서비스 이름, 사용자 이름)
+     * @param  loginDate : 로그인 날짜
+     * @return User      : 저장된 사용자 정보(식별 값, 포인트 포함)
+     */
+    User upsertOAuthUser(User user, LocalDate loginDate);
+}
@@ -0,0 +1,123 @@
+package com.mmserver.repository;
+
+import com.mmserver.domain.EnumType.RoleType;
+import com.mmserver.domain.LoginRecordDto;
+import com.mmserver.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@link UserRepositoryCustom} 구현
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    /**
+     * 최근 로그인 시간, 로그인 포인트 변경
+     *
+     *  - 최초 로그인      : 100 point
+     *  - 오늘 처음 로그인 : 10 point 추가
+     *  - 이미 반영된 날짜는 WHERE 조건으로 제외(여러 노드, 재시도에도 하루 한번만 지급)
+     *  - SET 절은 왼쪽부터 적용되기 때문에 point를 last_login 보다 먼저 변경
+     */
+    private static final String UPDATE_LAST_LOGIN =
+            "UPDATE user"
+          + "   SET point      = CASE WHEN last_login IS NULL THEN 100 ELSE point + 10 END,"
+          + "       last_login = ?"
+          + " WHERE id = ?"
+          + "   AND (last_login IS NULL OR last_login < ?)";
+
+    /**
+     * 소셜 로그인 사용자 저장(Upsert)
+     *
+     *  - 신규 사용자 : 최초 로그인 포인트(100)로 저장
+     *  - 기존 사용자(EMAIL_UNIQUE 중복) : UPDATE_LAST_LOGIN과 같은 기준으로 포인트, 최근 로그인 시간 변경
+     *  - 동시에 최초 로그인해도 중복 오류 없이 하나의 Row로 처리
+     *  - RETURNING(MariaDB 10.5 이상)으로 변경된 Row를 같은 요청에서 반환
+     */
+    private static final String UPSERT_OAUTH_USER =
+            "INSERT INTO user (email, oauth, user_name, role, point, theme, fail_cnt, lock_yn, last_login, create_date)"
+          + "     VALUES (?, ?, ?, 'USER', 100, 0, 0, 'N', ?, now())"
+          + "         ON DUPLICATE KEY UPDATE"
+          + "            id            = LAST_INSERT_ID(id),"
+          + "            point         = CASE WHEN last_login IS NULL THEN 100"
+          + "                                 WHEN last_login < VALUES(last_login) THEN point + 10"
+          + "                                 ELSE point END,"
+          + "            last_login    = CASE WHEN last_login IS NULL OR last_login < VALUES(last_login) THEN VALUES(last_login)"
+          + "                                 ELSE last_login END,"
+          + "            modified_date = now()";
+
+    private static final String RETURNING_USER =
+            " RETURNING id, email, oauth, user_name, role, point, theme, lock_yn, last_login";
+
+    private static final String SELECT_USER =
+            "SELECT id, email, oauth, user_name, role, point, theme, lock_yn, last_login FROM user WHERE id = LAST_INSERT_ID()";
+
+    /**
+     * 사용자 정보 변환
+     */
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> {
+        Date lastLogin = rs.getDate("last_login");
+
+        return User.ofUpsert(
+                rs.getLong("id"),
+                rs.getString("email"),
+                rs.getString("oauth"),
+                rs.getString("user_name"),
+                RoleType.valueOf(rs.getString("role")),
+                rs.getInt("point"),
+                rs.getInt("theme"),
+                rs.getString("lock_yn"),
+                lastLogin != null ? lastLogin.toLocalDate() : null);
+    };
+
+    /**
+     * JDBC 처리 Template
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * RETURNING 지원 여부(MariaDB 10.5 미만 => false)
+     */
+    private volatile boolean returningSupported = true;
+
+    @Override
+    public int[] updateLastLogins(List<LoginRecordDto> records) {
+        return jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, records, records.size(), (ps, record) -> {
+            Date loginDate = Date.valueOf(record.getLoginDate());
+
+            ps.setDate(1, loginDate);
+            ps.setLong(2, record.getUserId());
+            ps.setDate(3, loginDate);
+        })[0];
+    }
+
+    @Override
+    @Transactional
+    public User upsertOAuthUser(User user, LocalDate loginDate) {
+        Object[] args = {user.getEmail(), user.getOauth(), user.getUserName(), Date.valueOf(loginDate)};
+
+        if(returningSupported) {
+            try {
+                return jdbcTemplate.queryForObject(UPSERT_OAUTH_USER + RETURNING_USER, USER_ROW_MAPPER, args);
+            } catch (BadSqlGrammarException e) {
+                log.warn("INSERT ... RETURNING 미지원, Upsert 후 조회로 처리 : {}", e.getMessage());
+                returningSupported = false;
+            }
+        }
+
+        // 같은 Connection에서 LAST_INSERT_ID()로 조회(Transaction)
+        jdbcTemplate.update(UPSERT_OAUTH_USER, args);
+
+        return jdbcTemplate.queryForObject(SELECT_USER, USER_ROW_MAPPER);
+    }
+}
@@ -1,7 +1,9 @@
 package com.mmserver.service;
 
+import com.mmserver.config.cache.UserInfoCache;
 import com.mmserver.config.security.UserInfo;
 import com.mmserver.config.security.jwt.JwtProvider;
+import com.mmserver.config.security.jwt.TokenClaims;
 import com.mmserver.domain.LoginDto;
 import com.mmserver.domain.SignupDto;
 import com.mmserver.domain.UserInfoDto;
@@ -9,26 +11,28 @@ import com.mmserver.domain.model.Token;
 import com.mmserver.domain.model.User;
 import com.mmserver.exception.DuplicationEmailException;
 import com.mmserver.exception.DuplicationUserNameException;
+import com.mmserver.exception.LockedAccountException;
 import com.mmserver.exception.MisMatchPasswordException;
 import com.mmserver.exception.NotFoundEmailException;
-import com.mmserver.repository.RedisRepository;
+import com.mmserver.exception.TooManyRequestsException;
+import com.mmserver.repository.RefreshTokenRepository;
+import com.mmserver.repository.RefreshTokenRepository.Rotation;
 import com.mmserver.repository.UserRepository;
-import com.mmserver.utils.JwtUtils;
+import com.mmserver.utils.SingleFlight;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.HashMap;
 
 import static com.mmserver.domain.EnumType.ErrorCode.JWT_ACCESS_TOKEN_EMPTY;
 import static com.mmserver.domain.EnumType.ErrorCode.JWT_REFRESH_TOKEN_EXPIRED;
+import static com.mmserver.domain.EnumType.ErrorCode.JWT_REFRESH_TOKEN_REUSED;
 
 /**
  * 인증관리 Service
@@ -51,15 +55,51 @@ public class AuthService {
     /**
      * Refresh Token을 관리 Repository
      */
-    private final RedisRepository redisRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     /**
-     * 암호화 Encoder
+     * 비밀번호 암호화 Service
      */
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * 사용자 정보 Near Cache
+     */
+    private final UserInfoCache userInfoCache;
+
+    /**
+     * 사용자 관리 Service
+     */
+    private final UserService userService;
+
+    /**
+     * Access Token 폐기 관리 Service
+     */
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 로그인 실패 관리 Service
+     */
+    private final LoginAttemptService loginAttemptService;
+
+    /**
+     * 사용자 이메일, 이름 존재 여부 확인 Service
+     */
+    private final UserExistenceService userExistenceService;
+
+    /**
+     * 로그인 기록 Write-Behind 저장 Component
+     */
+    private final LoginBookkeepingWriter loginBookkeepingWriter;
+
+    /**
+     * 진행 중인 Access Token 재발급 요청
+     */
+    private final SingleFlight<String, Rotation> reissueCalls = new SingleFlight<>();
 
     /**
      * Access Token 재발급
+     * 동일한 토큰으로 동시에 요청한 경우 하나의 재발급 결과를 공유
      *
      * @param  request  : 요청 객체
      * @param  response : 응답 객체
@@ -81,52 +121,62 @@ public class AuthService {
             return false;
         }
 
-        try {
-            // 만료된 토큰을 통해 eamil 조회
-            HashMap<String, String> payloadMap = JwtUtils.getPayloadByToken(token);
-            log.info("Access Token payloadMap : {}", payloadMap);
-
-            // PayLoad 데이터 유무 확인
-            if (payloadMap != null) {
-                String subData = payloadMap.get("sub");
-                log.info("Access Token Payload Email : {}", subData);
-
-                // 이메일을 통해 Redis에서 Refesh Token 조회
-                Token refreshToken = redisRepository.findById(subData)
-                        .orElseThrow(() -> {
-                            log.error("Redis에 저장된 정보 없음");
-                            // 이메일에 해당하는 Key가 없는경우 예외 발생
-                            throw new NotFoundEmailException();
-                        });
-                log.info("refreshToken : {}", refreshToken);
-
-                if (StringUtils.hasText(subData) && jwtProvider.validateToken(refreshToken.getToken())) {
-                    String email = jwtProvider.getUserEmail(refreshToken.getToken());
-
-                    // 로그인 아이디 통해 사용자 조회
-                    User user = userRepository.findByEmail(email)
-                            .orElseThrow(() -> {
-                                log.error("Refesh Token 정보로 조회되는 사용자 없음");
-                                // 조회된 사용자 없는 경우 예외 발생
-                                throw new NotFoundEmailException();
-                            });
-                    log.info("Refresh Token Find User    : {}", user);
-
-                    // 인증정보 세팅
-                    registerAuthorizatione(user, response);
-
-                    return true;
-                }
-            }
-        } catch (ExpiredJwtException e) {
-            log.error("Refresh Token 만료");
-            log.error("Status : {}", JWT_REFRESH_TOKEN_EXPIRED.getStatus());
-            log.error("  Error Message : {}", JWT_REFRESH_TOKEN_EXPIRED.getMsg());
+        // 만료된 토큰도 서명 확인 후 email 조회(v1, v2 형식 모두 지원)
+        // (서명 없이 다른 사용자 email로 만든 토큰으로 재발급 받지 못하도록 검증)
+        Claims claims = jwtProvider.getVerifiedClaims(token);
+        String email = claims != null ? TokenClaims.of(claims).getEmail() : null;
 
-            response.sendError(JWT_REFRESH_TOKEN_EXPIRED.getStatus(), JWT_REFRESH_TOKEN_EXPIRED.getMsg());
+        if (!StringUtils.hasText(email)) {
+            return false;
         }
 
-        return false;
+        log.info("Access Token Payload Email : {}", email);
+
+        // 동일한 토큰으로 들어온 동시 요청은 하나의 교체 결과 공유
+        Rotation rotation = reissueCalls.execute(RefreshTokenRepository.fingerprint(token), () -> rotate(email, token));
+
+        switch (rotation.getStatus()) {
+            case ROTATED:
+            case GRACE:
+                // Http Header에 Access Token세팅
+                jwtProvider.setHeaderAccessToken(response, rotation.getAccessToken());
+                return true;
+            case REUSED:
+                log.error("Refresh Token 재사용 : {}", email);
+                log.error("Status : {}", JWT_REFRESH_TOKEN_REUSED.getStatus());
+                log.error("Error Message : {}", JWT_REFRESH_TOKEN_REUSED.getMsg());
+
+                response.sendError(JWT_REFRESH_TOKEN_REUSED.getStatus(), JWT_REFRESH_TOKEN_REUSED.getMsg());
+                return false;
+            default:
+                // Redis 만료 시간이 Refresh Token 만료 시간이기 때문에 저장된 정보가 없으면 만료
+                log.error("Refresh Token 만료");
+                log.error("Status : {}", JWT_REFRESH_TOKEN_EXPIRED.getStatus());
+                log.error("Error Message : {}", JWT_REFRESH_TOKEN_EXPIRED.getMsg());
+
+                response.sendError(JWT_REFRESH_TOKEN_EXPIRED.getStatus(), JWT_REFRESH_TOKEN_EXPIRED.getMsg());
+                return false;
+        }
+    }
+
+    /**
+     * Refresh Token 교체
+     * 새로운 토큰을 발급한 후, 제시된 토큰과 저장된 토큰이 일치하는 경우만 교체
+     *
+     * @param  email    : 사용자 이메일
+     * @param  token    : 재발급 요청 시 제시된 Access Token
+     * @return Rotation : 교체 결과
+     */
+    private Rotation rotate(String email, String token) {
+        // 로그인 아이디 통해 사용자 조회
+        UserInfo userInfo = (UserInfo) userService.loadUserByUsername(email);
+        log.info("Refresh Token Find User    : {}", userInfo);
+
+        // Token 생성
+        Token accessToken  = jwtProvider.createAccessToken(userInfo);
+        Token refreshToken = jwtProvider.createRefreshToken(userInfo);
+
+        return refreshTokenRepository.rotate(token, refreshToken, accessToken.getToken());
     }
 
     /**
@@ -138,13 +188,13 @@ public class AuthService {
      * @return UserInfoDto : 로그인 사용자 정보
      */
     public UserInfoDto signup(SignupDto signInfo, HttpServletResponse response) {
-        // 사용자 이메일 중복 확인
-        if(isCheckedEmail(signInfo.getEmail())) {
+        // 사용자 이메일 중복 확인(다른 노드에서 방금 가입한 경우를 위해 DB로 확인)
+        if(userRepository.existsByEmail(signInfo.getEmail())) {
             throw new DuplicationEmailException();
         }
 
         // 사용자 이름 중복 확인
-        if(isCheckedUserName(signInfo.getUserName())) {
+        if(userRepository.existsByUserName(signInfo.getUserName())) {
             throw new DuplicationUserNameException();
         }
 
@@ -152,7 +202,7 @@ public class AuthService {
         User user = User.builder()
                 .email(signInfo.getEmail())
                 .userName(signInfo.getUserName())
-                .password(passwordEncoder.encode(signInfo.getPassword()))
+                .password(passwordHashingService.encode(signInfo.getPassword()))
                 .build();
 
         log.info("Signup User Info : {}", user);
@@ -161,6 +211,8 @@ public class AuthService {
         user.lastLoginUpdate();
         // 사용자 정보 저장
         user = userRepository.save(user);
+        // 중복확인 Bloom Filter에 추가
+        userExistenceService.register(user.getEmail(), user.getUserName());
 
         // 인증정보 세팅
         registerAuthorizatione(user, response);
@@ -170,37 +222,48 @@ public class AuthService {
 
     /**
      * 사용자 이메일 중복확인
+     * (가입되지 않은 이메일은 DB 조회 없이 응답)
      *
      * @param  email   : 사용자 이메일
      * @return boolean : 중복 여부(true => 중복)
      */
-    @Transactional(readOnly = true, rollbackFor = Exception.class)
     public boolean isCheckedEmail(String email) {
-        return userRepository.findByEmail(email).isPresent();
+        return userExistenceService.existsEmail(email);
     }
 
     /**
      * 사용자 이름 중복확인
+     * (가입되지 않은 이름은 DB 조회 없이 응답)
      *
      * @param  userName : 사용자 이름
      * @return boolean  : 중복 여부(true => 중복)
      */
-    @Transactional(readOnly = true, rollbackFor = Exception.class)
     public boolean isCheckedUserName(String userName) {
-        return userRepository.findByUserName(userName).isPresent();
+        return userExistenceService.existsUserName(userName);
     }
 
     /**
      * 로그인
+     * 이메일 또는 IP가 잠긴 경우 사용자 조회, 비밀번호 확인 전에 거절
      *
      * @param  loginDTO    : 로그인 정보
+     * @param  clientIp    : 요청 IP
      * @param  response    : 응답 객체
      * @return UserInfoDTO : 로그인 사용자 정보
      */
-    public UserInfoDto login(LoginDto loginDTO, HttpServletResponse response) {
+    public UserInfoDto login(LoginDto loginDTO, String clientIp, HttpServletResponse response) {
+        String email = loginDTO.getEmail();
+
+        // 잠긴 이메일, IP 확인
+        if(loginAttemptService.isLocked(email, clientIp)) {
+            throw new LockedAccountException();
+        }
+
         // 로그인 아이디 통해 사용자 조회
-        User user = userRepository.findByEmail(loginDTO.getEmail())
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> {
+                    // 존재하지 않는 이메일 대입도 IP 실패 횟수에 포함
+                    loginAttemptService.recordFailure(email, clientIp);
                     // 조회된 사용자 없는 경우 예외 발생
                     throw new NotFoundEmailException();
                 });
@@ -208,17 +271,46 @@ public class AuthService {
         log.info("Login User Info : {}", user);
 
         // 비밀번호 확인
-        if(!passwordEncoder.matches(loginDTO.getPassword(), user.getPassword())){
-            // 비밀번호 실패 횟수 증가
-            user.addFailCnt();
+        if(!passwordHashingService.matches(loginDTO.getPassword(), user.getPassword())){
+            // 실패 횟수 기록, 잠금 상태로 전환된 경우만 DB 반영
+            if(loginAttemptService.recordFailure(email, clientIp)) {
+                user.lock(loginAttemptService.getEmailThreshold());
+                userRepository.save(user);
+                userInfoCache.invalidate(email, true);
+            }
             // 비밀번호 미일치 예외
             throw new MisMatchPasswordException();
         }
 
-        // 마지막 로그인 날짜 변경
+        // 실패 기록 삭제
+        loginAttemptService.reset(email);
+
+        // 최근 로그인 시간, 로그인 포인트 저장 예약(일정 주기로 묶어서 저장)
+        loginBookkeepingWriter.enqueue(user);
+        // 응답할 마지막 로그인 날짜, 포인트 변경
         user.lastLoginUpdate();
-        // 비밀번호 실패 횟수 초기화
-        user.initFailCnt();
+
+        // 잠금 해제 상태로 전환된 경우만 DB 반영
+        if(user.isLockedOrFailed()) {
+            user.unlock();
+            userRepository.save(user);
+            userInfoCache.invalidate(email, true);
+        }
+
+        // 현재 설정(BCrypt Cost)보다 낮게 암호화된 비밀번호는 다시 암호화해서 저장
+        // (암호화 대기열이 가득 찬 경우 로그인은 성공 처리하고 다음 로그인 시 다시 시도)
+        if(passwordHashingService.upgradeEncoding(user.getPassword())) {
+            try {
+                String encoded = passwordHashingService.encode(loginDTO.getPassword());
+
+                log.info("비밀번호 재암호화 : {}", user.getEmail());
+                user.passwordUpdate(encoded);
+                userRepository.save(user);
+                userInfoCache.invalidate(user.getEmail(), false);
+            } catch (TooManyRequestsException e) {
+                log.info("비밀번호 재암호화 생략(다음 로그인 시 재시도) : {}", user.getEmail());
+            }
+        }
 
         // 인증정보 세팅
         registerAuthorizatione(user, response);
@@ -246,16 +338,33 @@ public class AuthService {
         jwtProvider.setHeaderAccessToken(response, accessToken.getToken());
 
         // Refresh Token Redis에 저장
-        redisRepository.save(refreshToken);
+        refreshTokenRepository.save(refreshToken, accessToken.getToken());
     }
 
     /**
      * 로그아웃
-     * Redis Refresh Token 삭제
+     * Redis Refresh Token 삭제, 요청에 사용된 Access Token 폐기
      *
-     * @param email : 사용자 이메일
+     * @param email   : 사용자 이메일
+     * @param request : 요청 객체
      */
-    public void logout(String email) {
-        redisRepository.deleteById(email);
+    public void logout(String email, HttpServletRequest request) {
+        refreshTokenRepository.deleteById(email);
+
+        String token = jwtProvider.resolveToken(request);
+        if(token == null) {
+            return;
+        }
+
+        try {
+            Claims claims = jwtProvider.getClaims(token);
+
+            // 로그아웃 사용자의 토큰인 경우만 폐기
+            if(claims != null && email.equals(TokenClaims.of(claims).getEmail())) {
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+            }
+        } catch (ExpiredJwtException e) {
+            log.info("이미 만료된 Access Token");
+        }
     }
 }
@@ -0,0 +1,448 @@
+package com.mmserver.service;
+
+import com.mmserver.domain.model.Auction;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수락된 입찰 기록 일괄 저장
+ *
+ *  - 입찰 기록을 대기열에 모아서 Multi-Row INSERT 한번으로 저장(입찰마다 Transaction 없음)
+ *    => batchSize 만큼 모이거나 첫 기록 후 flushInterval이 지나면 저장
+ *  - 입찰 순서(sort_no)는 BidEngine에서 발급하므로 생성된 Key 조회 없음(IDENTITY 미사용)
+ *  - 같은 Thread에서 대기열 순서대로 저장하고, 한번에 저장하는 기록은 (item_id, sort_no) 순으로 정렬
+ *  - 저장 결과(Commit)는 입찰마다 CompletableFuture로 전달
+ *  - DB 응답 시간이 목표 시간을 넘으면 다음 저장까지 대기 시간을 두배로 늘리고(최대 maxBackoff),
+ *    목표 시간 안에 응답하면 backoffStep 만큼 줄임(AIMD)
+ *    => 대기하는 동안 기록이 더 모여서 DB 호출 수 감소
+ *  - 대기열이 가득 찬 경우 입찰 전에 거절(BidEngine => HttpStatus 429)
+ *  - 중복(다른 노드에서 같은 순서 저장)된 경매는 같은 상태 버전으로 발급한 이후 기록도 모두 실패 처리
+ *    => 이전 상태로 발급한 다음 순서가 저장되면 마지막 기록이 더 낮은 가격이 되므로,
+ *       BidEngine이 DB 기준으로 다시 조회한(버전이 증가한) 기록부터 저장
+ */
+@Slf4j
+@Component
+public class BidBatchWriter {
+
+    private static final String INSERT_AUCTION = "INSERT INTO auction (item_id, sort_no, id, bid, bid_date) VALUES ";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?)";
+
+    private static final Comparator<Pending> ORDER = Comparator
+            .comparing((Pending pending) -> pending.auction.getItemId())
+            .thenComparing(pending -> pending.auction.getSortNo())
+            .thenComparingLong(pending -> pending.version);
+
+    /**
+     * 저장 대기 중인 입찰 기록
+     */
+    private final BlockingQueue<Pending> queue;
+
+    /**
+     * 중복으로 저장하지 못한 경매 별 상태 버전(저장 Thread에서만 접근)
+     * (해당 버전 이하로 발급한 기록은 저장하지 않음)
+     */
+    private final Map<Long, Long> fenced = new HashMap<>();
+
+    /**
+     * JDBC 처리 Template
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한번에 저장할 최대 개수
+     */
+    private final int batchSize;
+
+    /**
+     * 첫 기록 후 저장까지 최대 대기 시간
+     */
+    private final long flushIntervalNanos;
+
+    /**
+     * DB 응답 목표 시간
+     */
+    private final long latencyTargetNanos;
+
+    /**
+     * 대기 시간 감소 단위, 최대 대기 시간
+     */
+    private final long backoffStepNanos;
+
+    private final long maxBackoffNanos;
+
+    /**
+     * 저장 실패 시 최대 시도 횟수
+     */
+    private final int maxAttempts;
+
+    /**
+     * 현재 저장 간 대기 시간(저장 Thread에서만 변경)
+     */
+    private volatile long backoffNanos;
+
+    private volatile boolean running = true;
+
+    private final Thread thread;
+
+    /**
+     * 저장 시간
+     */
+    private final Timer writeTimer;
+
+    /**
+     * 한번에 저장한 개수
+     */
+    private final DistributionSummary batchSummary;
+
+    /**
+     * 생성자
+     *
+     * @param queueCapacity : 대기열 크기
+     * @param batchSize     : 한번에 저장할 최대 개수
+     * @param flushInterval : 첫 기록 후 저장까지 최대 대기 시간
+     * @param latencyTarget : DB 응답 목표 시간
+     * @param backoffStep   : 대기 시간 감소 단위
+     * @param maxBackoff    : 최대 대기 시간
+     * @param maxAttempts   : 저장 실패 시 최대 시도 횟수
+     */
+    public BidBatchWriter(@Value("${auction.write.queueCapacity:10000}") int queueCapacity,
+                          @Value("${auction.write.batchSize:500}") int batchSize,
+                          @Value("${auction.write.flushInterval:5ms}") Duration flushInterval,
+                          @Value("${auction.write.latencyTarget:50ms}") Duration latencyTarget,
+                          @Value("${auction.write.backoffStep:5ms}") Duration backoffStep,
+                          @Value("${auction.write.maxBackoff:500ms}") Duration maxBackoff,
+                          @Value("${auction.write.maxAttempts:3}") int maxAttempts,
+                          JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry) {
+        this.queue              = new ArrayBlockingQueue<>(queueCapacity);
+        this.jdbcTemplate       = jdbcTemplate;
+        this.batchSize          = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.backoffStepNanos   = backoffStep.toNanos();
+        this.maxBackoffNanos    = maxBackoff.toNanos();
+        this.maxAttempts        = maxAttempts;
+
+        this.writeTimer = Timer.builder("auction.bid.write")
+                .description("입찰 기록 일괄 저장 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSummary = DistributionSummary.builder("auction.bid.write.batch")
+                .description("한번에 저장한 입찰 기록 수")
+                .register(meterRegistry);
+
+        Gauge.builder("auction.bid.write.queue", queue, BlockingQueue::size)
+                .description("저장 대기 중인 입찰 기록 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.bid.write.backoff", this, writer -> writer.backoffNanos / 1_000_000.0)
+                .description("저장 간 대기 시간(ms)")
+                .register(meterRegistry);
+
+        this.thread = new Thread(this::run, "bid-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * 입찰 기록 저장 예약
+     *
+     * @param  auction                 : 입찰 기록
+     * @param  version                 : 순서를 발급한 경매 상태 버전(DB에서 다시 조회할 때마다 증가)
+     * @return CompletableFuture<Void> : 저장 결과(대기열이 가득 찬 경우 null 반환)
+     */
+    public CompletableFuture<Void> offer(Auction auction, long version) {
+        Pending pending = new Pending(auction, version);
+
+        return running && queue.offer(pending) ? pending.committed : null;
+    }
+
+    /**
+     * 대기열에서 꺼내서 저장 반복(저장 Thread)
+     */
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청 => 남은 기록 저장 후 종료
+                running = false;
+            }
+
+            if(batch.isEmpty()) {
+                continue;
+            }
+
+            write(batch);
+            batch.clear();
+
+            if(backoffNanos > 0 && running) {
+                sleep(backoffNanos);
+            }
+        }
+    }
+
+    /**
+     * batchSize 만큼 모이거나 첫 기록 후 flushInterval이 지날 때까지 대기열에서 꺼냄
+     *
+     * @param batch : 저장할 기록
+     */
+    private void collect(List<Pending> batch) throws InterruptedException {
+        Pending first = running ? queue.poll(100, TimeUnit.MILLISECONDS) : queue.poll();
+
+        if(first == null) {
+            return;
+        }
+
+        batch.add(first);
+        queue.drainTo(batch, batchSize - batch.size());
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+
+        while (batch.size() < batchSize && running) {
+            long remaining = deadline - System.nanoTime();
+
+            if(remaining <= 0) {
+                break;
+            }
+
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+            if(next == null) {
+                break;
+            }
+
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    /**
+     * 입찰 기록 저장 후 결과 전달
+     * 중복(다른 노드에서 같은 순서 저장)이 있으면 한 건씩 저장해서 중복된 기록부터 같은 경매의 기록 실패 처리
+     *
+     * @param batch : 저장할 기록
+     */
+    private void write(List<Pending> batch) {
+        batch.sort(ORDER);
+        rejectFenced(batch);
+
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+
+            try {
+                insert(batch);
+                adjust(System.nanoTime() - start);
+
+                for (Pending pending : batch) {
+                    commit(pending);
+                }
+
+                return;
+            } catch (DataIntegrityViolationException e) {
+                adjust(System.nanoTime() - start);
+                log.error("입찰 기록 중복 포함, 한 건씩 저장 : {}", batch.size());
+                writeEach(batch);
+                return;
+            } catch (RuntimeException e) {
+                adjust(Long.MAX_VALUE);
+                log.error("입찰 기록 저장 실패 ({}회) : {}", attempt, e.getMessage());
+
+                if(attempt >= maxAttempts || !running) {
+                    for (Pending pending : batch) {
+                        pending.committed.completeExceptionally(e);
+                    }
+                    return;
+                }
+
+                sleep(backoffNanos);
+            }
+        }
+    }
+
+    /**
+     * 한 건씩 저장
+     * (중복된 기록 이후 같은 경매의 기록은 저장하지 않음)
+     *
+     * @param batch : 저장할 기록((item_id, sort_no) 순)
+     */
+    private void writeEach(List<Pending> batch) {
+        for (Pending pending : batch) {
+            if(isFenced(pending)) {
+                reject(pending);
+                continue;
+            }
+
+            try {
+                insert(pending);
+                commit(pending);
+            } catch (DataIntegrityViolationException e) {
+                fenced.merge(pending.auction.getItemId(), pending.version, Math::max);
+                pending.committed.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                pending.committed.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 중복으로 저장하지 못한 상태 버전 이하로 발급한 기록 실패 처리
+     *
+     * @param batch : 저장할 기록
+     */
+    private void rejectFenced(List<Pending> batch) {
+        if(fenced.isEmpty()) {
+            return;
+        }
+
+        for (Iterator<Pending> iterator = batch.iterator(); iterator.hasNext(); ) {
+            Pending pending = iterator.next();
+
+            if(isFenced(pending)) {
+                reject(pending);
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean isFenced(Pending pending) {
+        Long version = fenced.get(pending.auction.getItemId());
+
+        return version != null && pending.version <= version;
+    }
+
+    private void reject(Pending pending) {
+        log.error("이전 입찰 순서 중복, 저장하지 않음 : itemId={}, sortNo={}", pending.auction.getItemId(), pending.auction.getSortNo());
+        pending.committed.completeExceptionally(
+                new IllegalStateException("이전 입찰 순서 중복 : itemId=" + pending.auction.getItemId()));
+    }
+
+    /**
+     * 저장 완료 전달(다시 조회한 상태로 저장된 경우 중복 기록 해제)
+     *
+     * @param pending : 저장된 기록
+     */
+    private void commit(Pending pending) {
+        if(!fenced.isEmpty()) {
+            fenced.remove(pending.auction.getItemId());
+        }
+
+        pending.committed.complete(null);
+    }
+
+    /**
+     * Multi-Row INSERT
+     *
+     * @param batch : 저장할 기록
+     */
+    private void insert(List<Pending> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_AUCTION.length() + batch.size() * (VALUES_ROW.length() + 1));
+        sql.append(INSERT_AUCTION);
+
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "" : ",").append(VALUES_ROW);
+        }
+
+        writeTimer.record(() -> jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (Pending pending : batch) {
+                index = bind(ps, index, pending.auction);
+            }
+        }));
+
+        batchSummary.record(batch.size());
+    }
+
+    private void insert(Pending pending) {
+        jdbcTemplate.update(INSERT_AUCTION + VALUES_ROW, ps -> bind(ps, 1, pending.auction));
+    }
+
+    private static int bind(PreparedStatement ps, int index, Auction auction) throws SQLException {
+        ps.setLong(index++, auction.getItemId());
+        ps.setLong(index++, auction.getSortNo());
+        ps.setLong(index++, auction.getBidderId());
+        ps.setLong(index++, auction.getBid());
+        ps.setTimestamp(index++, Timestamp.valueOf(auction.getBidDate()));
+
+        return index;
+    }
+
+    /**
+     * DB 응답 시간에 따라 저장 간 대기 시간 조정(AIMD)
+     *
+     * @param latencyNanos : 응답 시간
+     */
+    private void adjust(long latencyNanos) {
+        if(latencyNanos > latencyTargetNanos) {
+            backoffNanos = Math.min(maxBackoffNanos, Math.max(backoffStepNanos, backoffNanos * 2));
+        } else {
+            backoffNanos = Math.max(0, backoffNanos - backoffStepNanos);
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시, 남은 입찰 기록 저장
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 저장 대기 중인 입찰 기록과 저장 결과
+     */
+    private static final class Pending {
+
+        private final Auction auction;
+
+        /**
+         * 순서를 발급한 경매 상태 버전
+         */
+        private final long version;
+
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        private Pending(Auction auction, long version) {
+            this.auction = auction;
+            this.version = version;
+        }
+    }
+}
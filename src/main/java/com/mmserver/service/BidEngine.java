@@ -0,0 +1,523 @@
+package com.mmserver.service;
+
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.domain.model.Auction;
+import com.mmserver.domain.model.Item;
+import com.mmserver.exception.BidNotSavedException;
+import com.mmserver.exception.InvalidBidException;
+import com.mmserver.exception.NotFoundItemException;
+import com.mmserver.exception.TooManyRequestsException;
+import com.mmserver.repository.AuctionRepository;
+import com.mmserver.repository.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 처리 Engine
+ *
+ *  - 진행 중인 경매의 현재 가격, 다음 입찰 순서(sort_no)를 메모리에 유지
+ *    => 입찰마다 SELECT MAX + INSERT(Row Lock) 하지 않음
+ *  - 경매 식별 값으로 Shard를 정하고, Shard 마다 하나의 Thread에서만 경매 상태 변경(Single Writer)
+ *    => 같은 경매의 입찰은 Lock 없이 순서대로 처리, 다른 경매의 입찰은 서로 다른 Shard에서 병렬 처리
+ *  - 경매 상태는 처음 입찰할 때 요청 Thread에서 DB 조회 후 Shard에 등록(Shard Thread에서 DB 대기 없음)
+ *  - 수락된 입찰은 BidBatchWriter에서 일괄 저장하고, 저장(Commit) 완료 후 응답(auction.bid.waitForCommit)
+ *    (저장 실패 시 해당 경매 상태를 제거해서 다음 입찰 때 DB 기준으로 다시 조회)
+ *  - 저장된 가격은 BidEventBus로 구독자, 다른 노드에 전달하고, 다른 노드에서 입찰된 경매 상태는 제거
+ *  - Shard 대기열, 저장 대기열이 가득 찬 경우 즉시 거절(HttpStatus 429)
+ */
+@Slf4j
+@Service
+public class BidEngine {
+
+    /**
+     * 경매 상태 버전 발급(DB에서 조회할 때마다 증가)
+     */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /**
+     * 경매 식별 값 별 Shard
+     */
+    private final Shard[] shards;
+
+    /**
+     * 입찰 기록 일괄 저장
+     */
+    private final BidBatchWriter bidBatchWriter;
+
+    /**
+     * 노드 간 입찰 Event 전달
+     */
+    private final BidEventBus bidEventBus;
+
+    /**
+     * 경매 데이터 관리 Repository
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * 경매 진행(입찰) 데이터 관리 Repository
+     */
+    private final AuctionRepository auctionRepository;
+
+    /**
+     * 결과 대기 시간
+     */
+    private final Duration timeout;
+
+    /**
+     * 저장 완료 후 응답 여부
+     */
+    private final boolean waitForCommit;
+
+    /**
+     * 저장 결과 대기 시간
+     */
+    private final Duration commitTimeout;
+
+    /**
+     * Shard 처리 시간(대기열 대기 제외)
+     */
+    private final Timer acceptTimer;
+
+    /**
+     * 거절된 입찰 수(대기열 초과, 대기 시간 초과)
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * 생성자
+     *
+     * @param shardCount    : Shard 수(0 이하 => CPU 수)
+     * @param queueCapacity : Shard 별 대기열 크기
+     * @param maxOpenItems  : Shard 별 메모리에 유지할 최대 경매 수(초과 시 오래 사용하지 않은 경매 제거)
+     * @param timeout       : 결과 대기 시간
+     * @param waitForCommit : 저장 완료 후 응답 여부(false => 순서 발급 후 바로 응답)
+     * @param commitTimeout : 저장 결과 대기 시간
+     */
+    public BidEngine(@Value("${auction.bid.shards:0}") int shardCount,
+                     @Value("${auction.bid.queueCapacity:1024}") int queueCapacity,
+                     @Value("${auction.bid.maxOpenItems:10000}") int maxOpenItems,
+                     @Value("${auction.bid.timeout:1s}") Duration timeout,
+                     @Value("${auction.bid.waitForCommit:true}") boolean waitForCommit,
+                     @Value("${auction.bid.commitTimeout:2s}") Duration commitTimeout,
+                     BidBatchWriter bidBatchWriter,
+                     BidEventBus bidEventBus,
+                     ItemRepository itemRepository,
+                     AuctionRepository auctionRepository,
+                     MeterRegistry meterRegistry) {
+        this.itemRepository    = itemRepository;
+        this.auctionRepository = auctionRepository;
+        this.timeout           = timeout;
+        this.waitForCommit     = waitForCommit;
+        this.commitTimeout     = commitTimeout;
+        this.bidBatchWriter    = bidBatchWriter;
+        this.bidEventBus       = bidEventBus;
+
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[count];
+
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i, queueCapacity, maxOpenItems);
+        }
+
+        this.acceptTimer = Timer.builder("auction.bid.accept")
+                .description("입찰 처리 시간(Shard)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auction.bid.rejected")
+                .description("대기열 초과로 거절된 입찰 수")
+                .register(meterRegistry);
+
+        Gauge.builder("auction.bid.queue", shards, s -> {
+                    int size = 0;
+                    for (Shard shard : s) {
+                        size += shard.executor.getQueue().size();
+                    }
+                    return size;
+                })
+                .description("입찰 처리 대기 수")
+                .register(meterRegistry);
+
+        // 다른 노드에서 입찰된 경매 => 다음 입찰 시 DB 기준으로 다시 조회
+        bidEventBus.onRemoteBid(price -> {
+            if(shardOf(price.getItemId()).openItems.contains(price.getItemId())) {
+                evict(price.getItemId());
+            }
+        });
+    }
+
+    /**
+     * 입찰
+     *
+     * @param  itemId       : 경매 식별 값
+     * @param  bidderId     : 입찰자 아이디
+     * @param  bid          : 입찰가
+     * @return BidResultDto : 입찰 결과
+     * @throws NotFoundItemException    : 경매가 없는 경우
+     * @throws InvalidBidException      : 입찰할 수 없는 경우
+     * @throws TooManyRequestsException : 대기열이 가득 찼거나 처리 전에 대기 시간을 초과한 경우
+     * @throws BidNotSavedException     : 저장에 실패했거나 처리, 저장 결과를 확인하지 못한 경우
+     */
+    public BidResultDto bid(Long itemId, Long bidderId, long bid) {
+        Shard shard = shardOf(itemId);
+
+        // 처음 입찰하는 경매는 요청 Thread에서 조회
+        OpenItem loaded = shard.openItems.contains(itemId) ? null : load(itemId);
+
+        Future<Accepted> future;
+        try {
+            future = shard.executor.submit(() -> acceptTimer.recordCallable(() -> accept(shard, itemId, bidderId, bid, loaded)));
+        } catch (RejectedExecutionException e) {
+            log.error("입찰 대기열 초과 : shard={}", shard.index);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException();
+        }
+
+        Accepted accepted;
+        try {
+            accepted = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남아있는 경우만 취소 후 거절
+            if(future.cancel(false)) {
+                log.error("입찰 대기 시간 초과 : shard={}", shard.index);
+                rejectedCounter.increment();
+                throw new TooManyRequestsException();
+            }
+
+            // Shard에서 이미 처리 중이거나 처리된 입찰 => 거절하지 않고 결과 확인
+            log.error("입찰 처리 지연 : shard={}", shard.index);
+            accepted = awaitStarted(future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            if(future.cancel(false)) {
+                throw new TooManyRequestsException();
+            }
+
+            throw new BidNotSavedException();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        if(waitForCommit) {
+            awaitCommit(accepted.committed);
+        }
+
+        return accepted.result;
+    }
+
+    /**
+     * 취소할 수 없는(이미 처리 시작된) 입찰 결과 대기
+     *
+     * @param  future   : Shard 처리 결과
+     * @return Accepted : 입찰 결과, 저장 결과
+     * @throws BidNotSavedException : 결과를 확인하지 못한 경우(입찰 여부를 알 수 없음)
+     */
+    private Accepted awaitStarted(Future<Accepted> future) {
+        try {
+            return future.get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("입찰 처리 결과 대기 시간 초과");
+            throw new BidNotSavedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BidNotSavedException();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Shard 처리 중 발생한 예외 추출
+     *
+     * @param  e                : 처리 실패
+     * @return RuntimeException : 발생한 예외
+     */
+    private static RuntimeException unwrap(ExecutionException e) {
+        if(e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+
+        return new IllegalStateException(e.getCause());
+    }
+
+    /**
+     * 입찰 기록 저장(Commit) 대기
+     *
+     * @param  committed : 저장 결과
+     * @throws BidNotSavedException : 저장에 실패했거나 저장 결과를 확인하지 못한 경우
+     */
+    private void awaitCommit(CompletableFuture<Void> committed) {
+        try {
+            committed.get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("입찰 기록 저장 대기 시간 초과");
+            throw new BidNotSavedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BidNotSavedException();
+        } catch (ExecutionException e) {
+            log.error("입찰 기록 저장 실패 : {}", e.getCause().getMessage());
+            throw new BidNotSavedException();
+        }
+    }
+
+    /**
+     * 메모리에 유지 중인 경매 상태 제거
+     * (다음 입찰 시 DB 기준으로 다시 조회)
+     *
+     * @param itemId : 경매 식별 값
+     */
+    public void evict(Long itemId) {
+        Shard shard = shardOf(itemId);
+
+        // 다음 입찰 시 Shard Thread에서 제거(대기열 크기와 관계없이 반영)
+        shard.stale.add(itemId);
+        shard.openItems.remove(itemId);
+    }
+
+    /**
+     * 입찰 확인, 순서 발급(Shard Thread에서만 실행)
+     *
+     * @param  shard        : 경매가 속한 Shard
+     * @param  itemId       : 경매 식별 값
+     * @param  bidderId     : 입찰자 아이디
+     * @param  bid          : 입찰가
+     * @param  loaded       : 요청 Thread에서 조회한 경매 상태(이미 등록된 경우 null)
+     * @return Accepted     : 입찰 결과, 저장 결과
+     */
+    private Accepted accept(Shard shard, Long itemId, Long bidderId, long bid, OpenItem loaded) {
+        if(shard.stale.remove(itemId)) {
+            shard.items.remove(itemId);
+        }
+
+        OpenItem item = shard.items.get(itemId);
+
+        if(item == null) {
+            // 조회 후 제거된 경우(드물게 발생)만 Shard Thread에서 조회
+            item = loaded != null ? loaded : load(itemId);
+            shard.put(item);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if(item.closed) {
+            throw new InvalidBidException("종료된 경매입니다.");
+        }
+
+        if(now.isBefore(item.startDate)) {
+            throw new InvalidBidException("경매 시작 전입니다.");
+        }
+
+        if(bidderId == null || bidderId.equals(item.sellerId)) {
+            throw new InvalidBidException("본인 경매에는 입찰할 수 없습니다.");
+        }
+
+        // 시작 가격이 0인 경매(기본 값)도 0 이하 입찰은 거절(담당 노드로 전달된 입찰 포함)
+        if(bid <= 0) {
+            throw new InvalidBidException("입찰가는 0보다 커야 합니다.");
+        }
+
+        // 첫 입찰은 시작 가격 이상, 이후는 현재 가격 초과
+        if(item.bidCount == 0 ? bid < item.currentPrice : bid <= item.currentPrice) {
+            throw new InvalidBidException("현재 입찰가(" + item.currentPrice + ")보다 높은 금액으로 입찰해주세요.");
+        }
+
+        long sortNo = item.bidCount + 1;
+
+        // 저장 대기열에 넣은 경우만 수락
+        CompletableFuture<Void> committed = bidBatchWriter.offer(Auction.of(itemId, sortNo, bidderId, bid, now), item.version);
+
+        if(committed == null) {
+            log.error("입찰 기록 저장 대기열 초과");
+            rejectedCounter.increment();
+            throw new TooManyRequestsException();
+        }
+
+        item.bidCount     = sortNo;
+        item.currentPrice = bid;
+
+        BidResultDto result = BidResultDto.builder()
+                .itemId(itemId)
+                .sortNo(sortNo)
+                .bid(bid)
+                .bidCount(sortNo)
+                .bidDate(now)
+                .build();
+
+        committed.whenComplete((saved, e) -> {
+            if(e != null) {
+                // 저장 실패(다른 노드에서 같은 순서로 저장된 경우 등) => DB 기준으로 다시 조회
+                evict(itemId);
+            } else {
+                // 저장된 가격만 구독자, 다른 노드에 전달
+                bidEventBus.publish(result);
+            }
+        });
+
+        return new Accepted(result, committed);
+    }
+
+    /**
+     * 경매 상태 조회(경매 정보 + 마지막 입찰 기록)
+     *
+     * @param  itemId   : 경매 식별 값
+     * @return OpenItem : 경매 상태
+     * @throws NotFoundItemException : 경매가 없는 경우
+     */
+    private OpenItem load(Long itemId) {
+        Item item = itemRepository.findById(itemId).orElseThrow(NotFoundItemException::new);
+
+        return auctionRepository.findTopByItemIdOrderBySortNoDesc(itemId)
+                .map(last -> new OpenItem(item, last.getBid(), last.getSortNo()))
+                .orElseGet(() -> new OpenItem(item, item.getPrice(), 0));
+    }
+
+    private Shard shardOf(Long itemId) {
+        return shards[Math.floorMod(Long.hashCode(itemId), shards.length)];
+    }
+
+    /**
+     * 애플리케이션 종료 시, 처리 중인 입찰 완료
+     * (남은 입찰 기록은 BidBatchWriter 종료 시 저장)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+
+        for (Shard shard : shards) {
+            shard.executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 경매 상태를 변경하는 단일 Thread와 해당 Thread에서만 접근하는 경매 상태
+     */
+    private static final class Shard {
+
+        private final int index;
+
+        private final ThreadPoolExecutor executor;
+
+        /**
+         * 경매 상태(접근 순서, Shard Thread에서만 접근)
+         */
+        private final LinkedHashMap<Long, OpenItem> items;
+
+        /**
+         * 등록된 경매 식별 값(요청 Thread에서 조회 필요 여부 확인)
+         */
+        private final Set<Long> openItems = ConcurrentHashMap.newKeySet();
+
+        /**
+         * 제거 요청된 경매 식별 값
+         */
+        private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+
+        private Shard(int index, int queueCapacity, int maxOpenItems) {
+            this.index    = index;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "bid-shard-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+            this.items = new LinkedHashMap<Long, OpenItem>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, OpenItem> eldest) {
+                    if(size() > maxOpenItems) {
+                        openItems.remove(eldest.getKey());
+                        return true;
+                    }
+
+                    return false;
+                }
+            };
+        }
+
+        private void put(OpenItem item) {
+            items.put(item.itemId, item);
+            openItems.add(item.itemId);
+        }
+    }
+
+    /**
+     * 수락된 입찰 결과와 저장 결과
+     */
+    private static final class Accepted {
+
+        private final BidResultDto result;
+
+        private final CompletableFuture<Void> committed;
+
+        private Accepted(BidResultDto result, CompletableFuture<Void> committed) {
+            this.result    = result;
+            this.committed = committed;
+        }
+    }
+
+    /**
+     * 진행 중인 경매 상태(Shard Thread에서만 변경)
+     */
+    private static final class OpenItem {
+
+        private final Long itemId;
+
+        /**
+         * 상태 버전(저장 중복 시 같은 버전으로 발급한 이후 기록도 저장하지 않음)
+         */
+        private final long version = VERSIONS.incrementAndGet();
+
+        /**
+         * 등록자 아이디
+         */
+        private final Long sellerId;
+
+        /**
+         * 경매 시작 시간
+         */
+        private final LocalDateTime startDate;
+
+        /**
+         * 낙찰 여부
+         */
+        private final boolean closed;
+
+        /**
+         * 현재 가격(입찰이 없는 경우 시작 가격)
+         */
+        private long currentPrice;
+
+        /**
+         * 입찰 수(마지막 입찰 순서)
+         */
+        private long bidCount;
+
+        private OpenItem(Item item, long currentPrice, long bidCount) {
+            this.itemId       = item.getId();
+            this.sellerId     = item.getUserId();
+            this.startDate    = item.getStrDate();
+            this.closed       = item.isClosed();
+            this.currentPrice = currentPrice;
+            this.bidCount     = bidCount;
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package com.mmserver.service;
+
+import com.mmserver.config.cluster.NodeIdentity;
+import com.mmserver.domain.BidResultDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 간 입찰 Event 전달(Redis Stream)
+ *
+ *  - 저장된 입찰 가격을 Stream(auction:bids)에 추가하고, 모든 노드가 각자의 Consumer Group으로 읽음
+ *    => 다른 노드의 구독자, 메모리에 유지 중인 경매 상태도 Polling 없이 갱신
+ *  - Stream 추가는 별도 Thread에서 모아서 Pipeline으로 전송(입찰 저장 Thread에서 Redis 대기 없음)
+ *  - 읽기는 XREADGROUP COUNT(batchSize) BLOCK 으로 여러 Event를 한번에 받고, 처리 후 한번에 XACK
+ *  - 노드 식별 값(cluster.nodeId 필수)으로 Consumer Group을 만들기 때문에, 재시작 시 마지막 확인(ACK)한 Event 이후부터 다시 읽음
+ *    (확인하지 못한 Event(Pending)를 먼저 처리한 후 새 Event 처리)
+ *  - 현재 노드에서 발생한 Event는 바로 전달하고, Stream에서 받은 같은 Event는 확인만 함
+ *  - Stream 길이는 maxLength 근처로 주기적으로 정리(오래 중지된 노드는 정리된 Event를 받지 못함)
+ */
+@Slf4j
+@Service
+public class BidEventBus {
+
+    /**
+     * 입찰 Event Stream Key
+     */
+    private static final String STREAM_KEY = "auction:bids";
+
+    /**
+     * 노드 별 Consumer Group 이름 Prefix
+     */
+    private static final String GROUP_PREFIX = "node:";
+
+    private static final String ORIGIN    = "origin";
+    private static final String ITEM_ID   = "itemId";
+    private static final String SORT_NO   = "sortNo";
+    private static final String BID       = "bid";
+    private static final String BID_COUNT = "bidCount";
+    private static final String BID_DATE  = "bidDate";
+
+    /**
+     * Redis 처리 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 경매 가격 실시간 전송 Service
+     */
+    private final BidSubscriptionService bidSubscriptionService;
+
+    /**
+     * 다른 노드에서 발생한 Event 수신자
+     */
+    private final List<java.util.function.Consumer<BidResultDto>> remoteListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Stream 추가 대기 중인 Event
+     */
+    private final BlockingQueue<BidResultDto> outbox;
+
+    /**
+     * Redis Stream 사용 여부(false => 현재 노드에만 전달)
+     */
+    private final boolean enabled;
+
+    /**
+     * 현재 노드 식별 값(Consumer 이름), Consumer Group 이름
+     */
+    private final String nodeId;
+
+    private final String group;
+
+    /**
+     * 한번에 추가, 읽을 최대 Event 수
+     */
+    private final int batchSize;
+
+    /**
+     * 읽기 대기 시간(XREADGROUP BLOCK)
+     */
+    private final Duration block;
+
+    /**
+     * Stream 최대 길이(근사치)
+     */
+    private final long maxLength;
+
+    /**
+     * Redis 오류 시 재시도 간격
+     */
+    private final Duration retryInterval;
+
+    private volatile boolean running = true;
+
+    private Thread publisher;
+
+    private Thread consumer;
+
+    /**
+     * Stream에 추가한 Event 수
+     */
+    private final Counter publishedCounter;
+
+    /**
+     * 다른 노드에서 받은 Event 수
+     */
+    private final Counter receivedCounter;
+
+    /**
+     * 추가하지 못한 Event 수(대기열 초과, Redis 오류)
+     */
+    private final Counter droppedCounter;
+
+    /**
+     * 생성자
+     *
+     * @param enabled        : Redis Stream 사용 여부
+     * @param outboxCapacity : Stream 추가 대기열 크기
+     * @param batchSize      : 한번에 추가, 읽을 최대 Event 수
+     * @param block          : 읽기 대기 시간
+     * @param maxLength      : Stream 최대 길이(근사치)
+     * @param retryInterval  : Redis 오류 시 재시도 간격
+     * @throws IllegalStateException : Redis Stream을 사용하는데 노드 식별 값(cluster.nodeId) 설정이 없는 경우
+     */
+    public BidEventBus(@Value("${auction.events.enabled:false}") boolean enabled,
+                       @Value("${auction.events.outboxCapacity:10000}") int outboxCapacity,
+                       @Value("${auction.events.batchSize:100}") int batchSize,
+                       @Value("${auction.events.block:2s}") Duration block,
+                       @Value("${auction.events.maxLength:100000}") long maxLength,
+                       @Value("${auction.events.retryInterval:1s}") Duration retryInterval,
+                       NodeIdentity nodeIdentity,
+                       StringRedisTemplate redisTemplate,
+                       BidSubscriptionService bidSubscriptionService,
+                       MeterRegistry meterRegistry) {
+        // 재시작마다 식별 값이 바뀌면 새 Consumer Group이 생겨 이전 Event를 이어서 받지 못하고, 이전 Group은 남음
+        if(enabled && !nodeIdentity.isConfigured()) {
+            throw new IllegalStateException("auction.events.enabled=true 인 경우 재시작해도 같은 cluster.nodeId(NODE_ID)가 필요합니다.");
+        }
+
+        this.enabled       = enabled;
+        this.outbox        = new ArrayBlockingQueue<>(outboxCapacity);
+        this.batchSize     = batchSize;
+        this.block         = block;
+        this.maxLength     = maxLength;
+        this.retryInterval = retryInterval;
+        this.nodeId        = nodeIdentity.getId();
+        this.group         = GROUP_PREFIX + nodeId;
+        this.redisTemplate = redisTemplate;
+        this.bidSubscriptionService = bidSubscriptionService;
+
+        this.publishedCounter = Counter.builder("auction.events.published")
+                .description("Stream에 추가한 입찰 Event 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("auction.events.received")
+                .description("다른 노드에서 받은 입찰 Event 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("auction.events.dropped")
+                .description("Stream에 추가하지 못한 입찰 Event 수")
+                .register(meterRegistry);
+
+        Gauge.builder("auction.events.outbox", outbox, BlockingQueue::size)
+                .description("Stream 추가 대기 중인 입찰 Event 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 노드에서 발생한 Event 수신자 등록
+     *
+     * @param listener : Event 수신자
+     */
+    public void onRemoteBid(java.util.function.Consumer<BidResultDto> listener) {
+        remoteListeners.add(listener);
+    }
+
+    /**
+     * 저장된 입찰 가격 전달
+     * (현재 노드 구독자에게 바로 전송, 다른 노드에는 Stream으로 전달)
+     *
+     * @param price : 입찰 결과
+     */
+    public void publish(BidResultDto price) {
+        bidSubscriptionService.publish(price);
+
+        if(enabled && running && !outbox.offer(price)) {
+            log.error("입찰 Event 대기열 초과 : itemId={}", price.getItemId());
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Consumer Group 생성 후 추가, 읽기 Thread 시작
+     */
+    @PostConstruct
+    public void start() {
+        if(!enabled) {
+            return;
+        }
+
+        publisher = new Thread(this::runPublisher, "bid-event-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+
+        consumer = new Thread(this::runConsumer, "bid-event-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * 대기열의 Event를 모아서 Stream에 추가 반복(추가 Thread)
+     */
+    private void runPublisher() {
+        List<BidResultDto> batch = new ArrayList<>(batchSize);
+
+        while (running || !outbox.isEmpty()) {
+            try {
+                BidResultDto first = running ? outbox.poll(100, TimeUnit.MILLISECONDS) : outbox.poll();
+
+                if(first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                outbox.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                // 종료 요청 => 남은 Event 추가 후 종료
+                running = false;
+                continue;
+            }
+
+            try {
+                append(batch);
+                publishedCounter.increment(batch.size());
+            } catch (DataAccessException e) {
+                log.error("입찰 Event 추가 실패 : {}", e.getMessage());
+                droppedCounter.increment(batch.size());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Event 추가(XADD, Pipeline)
+     *
+     * @param batch : 추가할 Event
+     */
+    private void append(List<BidResultDto> batch) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                for (BidResultDto price : batch) {
+                    ops.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(toFields(price)));
+                }
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Stream 읽기 반복(읽기 Thread)
+     *  - 확인하지 못한 Event(Pending)를 먼저 처리한 후, 새 Event를 기다림
+     */
+    private void runConsumer() {
+        Consumer self = Consumer.from(group, nodeId);
+        boolean recovered = false;
+
+        while (running) {
+            try {
+                if(!recovered) {
+                    createGroup();
+                    recovered = replayPending(self);
+                    continue;
+                }
+
+                List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(self,
+                        StreamReadOptions.empty().count(batchSize).block(block),
+                        StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+
+                handle(records);
+            } catch (DataAccessException e) {
+                if(!running) {
+                    break;
+                }
+
+                log.error("입찰 Event 읽기 실패 : {}", e.getMessage());
+                // Stream, Group이 삭제된 경우 등 => 다시 생성 후 Pending부터 처리
+                recovered = false;
+                sleep(retryInterval);
+            }
+        }
+    }
+
+    /**
+     * 현재 노드의 Consumer Group 생성
+     * (처음 생성 시 이후 Event부터, 이미 있으면 마지막으로 받은 Event 이후부터 읽음)
+     */
+    private void createGroup() {
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.latest(), group);
+            log.info("입찰 Event Consumer Group 생성 : {}", group);
+        } catch (DataAccessException e) {
+            // BUSYGROUP => 재시작, 기존 Group 사용
+            log.info("입찰 Event Consumer Group 사용 : {}", group);
+        }
+    }
+
+    /**
+     * 받았지만 확인하지 못한 Event 처리(재시작 전 처리 중이던 Event)
+     *
+     * @param  self    : 현재 노드 Consumer
+     * @return boolean : 모두 처리한 경우 true
+     */
+    private boolean replayPending(Consumer self) {
+        int replayed = 0;
+
+        while (running) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(self,
+                    StreamReadOptions.empty().count(batchSize),
+                    StreamOffset.create(STREAM_KEY, ReadOffset.from("0")));
+
+            if(records == null || records.isEmpty()) {
+                if(replayed > 0) {
+                    log.info("확인하지 못한 입찰 Event 처리 : {}", replayed);
+                }
+                return true;
+            }
+
+            handle(records);
+            replayed += records.size();
+        }
+
+        return false;
+    }
+
+    /**
+     * 받은 Event 전달 후 한번에 확인(XACK)
+     *
+     * @param records : 받은 Event
+     */
+    private void handle(List<MapRecord<String, Object, Object>> records) {
+        if(records == null || records.isEmpty()) {
+            return;
+        }
+
+        RecordId[] ids = new RecordId[records.size()];
+
+        for (int i = 0; i < records.size(); i++) {
+            MapRecord<String, Object, Object> record = records.get(i);
+            ids[i] = record.getId();
+
+            try {
+                receive(record.getValue());
+            } catch (RuntimeException e) {
+                // 잘못된 Event는 건너뜀(다시 읽어도 같은 결과)
+                log.error("입찰 Event 처리 실패 : id={}, {}", record.getId(), e.getMessage());
+            }
+        }
+
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, group, ids);
+    }
+
+    /**
+     * Event 전달(현재 노드에서 발생한 Event는 이미 전달했으므로 제외)
+     *
+     * @param fields : Event 필드
+     */
+    void receive(Map<Object, Object> fields) {
+        if(nodeId.equals(fields.get(ORIGIN))) {
+            return;
+        }
+
+        BidResultDto price = fromFields(fields);
+        receivedCounter.increment();
+
+        bidSubscriptionService.publish(price);
+
+        for (java.util.function.Consumer<BidResultDto> listener : remoteListeners) {
+            listener.accept(price);
+        }
+    }
+
+    /**
+     * Stream 길이 정리(XTRIM MAXLEN ~)
+     */
+    @Scheduled(fixedDelayString = "${auction.events.trimInterval:PT1M}")
+    public void trim() {
+        if(!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForStream().trim(STREAM_KEY, maxLength, true);
+        } catch (DataAccessException e) {
+            log.error("입찰 Event Stream 정리 실패 : {}", e.getMessage());
+        }
+    }
+
+    Map<String, String> toFields(BidResultDto price) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(ORIGIN, nodeId);
+        fields.put(ITEM_ID, String.valueOf(price.getItemId()));
+        fields.put(SORT_NO, String.valueOf(price.getSortNo()));
+        fields.put(BID, String.valueOf(price.getBid()));
+        fields.put(BID_COUNT, String.valueOf(price.getBidCount()));
+        fields.put(BID_DATE, String.valueOf(price.getBidDate()));
+
+        return fields;
+    }
+
+    private static BidResultDto fromFields(Map<Object, Object> fields) {
+        return BidResultDto.builder()
+                .itemId(Long.valueOf((String) fields.get(ITEM_ID)))
+                .sortNo(Long.parseLong((String) fields.get(SORT_NO)))
+                .bid(Long.parseLong((String) fields.get(BID)))
+                .bidCount(Long.parseLong((String) fields.get(BID_COUNT)))
+                .bidDate(LocalDateTime.parse((String) fields.get(BID_DATE)))
+                .build();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시, 남은 Event 추가
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+
+        if(publisher != null) {
+            publisher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        if(consumer != null) {
+            consumer.join(block.toMillis() + 1000);
+        }
+    }
+}
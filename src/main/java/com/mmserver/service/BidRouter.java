@@ -0,0 +1,191 @@
+package com.mmserver.service;
+
+import com.mmserver.config.cluster.ClusterMembership;
+import com.mmserver.config.cluster.ClusterNode;
+import com.mmserver.config.cluster.ClusterSecretFilter;
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.domain.ForwardedBidDto;
+import com.mmserver.exception.BidNotSavedException;
+import com.mmserver.exception.InvalidBidException;
+import com.mmserver.exception.NotFoundItemException;
+import com.mmserver.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 입찰을 경매 담당 노드로 전달
+ *
+ *  - 경매 식별 값의 담당 노드(ClusterMembership Hash Ring)에서만 BidEngine으로 처리
+ *    => 같은 경매의 입찰은 여러 노드에서도 하나의 Shard Thread에서 순서대로 처리
+ *  - 다른 노드가 담당하는 경우 내부 요청(/internal/auction/{itemId}/bid, Cluster Secret Header)으로 전달하고
+ *    담당 노드의 실패 응답은 같은 예외로 변환
+ *  - 담당 노드에 연결할 수 없는 경우(등록 정보 만료 전 종료) 현재 노드에서 처리
+ *    (담당 변경 중 두 노드에서 같은 순서를 발급해도 (item_id, sort_no) 중복으로 한쪽만 저장하고,
+ *     중복된 노드는 이전 상태로 발급한 이후 입찰도 저장하지 않고 DB 기준으로 다시 조회)
+ *  - 응답을 받지 못한 경우 입찰 여부를 알 수 없으므로 다시 처리하지 않음(HttpStatus 503)
+ */
+@Slf4j
+@Service
+public class BidRouter {
+
+    /**
+     * 입찰 전달 경로
+     */
+    private static final String FORWARD_PATH = "/internal/auction/{itemId}/bid";
+
+    /**
+     * 입찰 처리 Engine
+     */
+    private final BidEngine bidEngine;
+
+    /**
+     * Cluster 노드 관리 Component
+     */
+    private final ClusterMembership clusterMembership;
+
+    /**
+     * 노드 간 요청 Template
+     */
+    private final RestTemplate restTemplate;
+
+    /**
+     * 입찰 전달 시간
+     */
+    private final Timer forwardTimer;
+
+    /**
+     * 담당 노드에 연결하지 못해 현재 노드에서 처리한 입찰 수
+     */
+    private final Counter fallbackCounter;
+
+    /**
+     * 생성자
+     *
+     * @param secret         : Cluster Secret
+     * @param connectTimeout : 연결 대기 시간
+     * @param readMargin     : 담당 노드의 최대 처리 시간 외 응답 여유 시간
+     * @param bidTimeout     : 담당 노드의 입찰 결과 대기 시간(auction.bid.timeout)
+     * @param commitTimeout  : 담당 노드의 저장 결과 대기 시간(auction.bid.commitTimeout)
+     */
+    public BidRouter(@Value("${cluster.secret:}") String secret,
+                     @Value("${cluster.forward.connectTimeout:300ms}") Duration connectTimeout,
+                     @Value("${cluster.forward.readMargin:1s}") Duration readMargin,
+                     @Value("${auction.bid.timeout:1s}") Duration bidTimeout,
+                     @Value("${auction.bid.commitTimeout:2s}") Duration commitTimeout,
+                     BidEngine bidEngine,
+                     ClusterMembership clusterMembership,
+                     RestTemplateBuilder restTemplateBuilder,
+                     MeterRegistry meterRegistry) {
+        this.bidEngine         = bidEngine;
+        this.clusterMembership = clusterMembership;
+        this.restTemplate      = restTemplateBuilder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout(readMargin, bidTimeout, commitTimeout))
+                .defaultHeader(ClusterSecretFilter.SECRET_HEADER, secret)
+                .build();
+
+        this.forwardTimer = Timer.builder("auction.bid.forward")
+                .description("담당 노드로 입찰 전달 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("auction.bid.forward.fallback")
+                .description("담당 노드에 연결하지 못해 현재 노드에서 처리한 입찰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 응답 대기 시간
+     * 담당 노드는 입찰 대기(timeout) 후 처리 중인 입찰 결과(commitTimeout), 저장 결과(commitTimeout)까지 대기
+     * => 담당 노드가 저장한 입찰을 응답 대기 시간 초과(결과 알 수 없음)로 처리하지 않도록 최대 처리 시간보다 길게
+     *
+     * @param  readMargin    : 응답 여유 시간
+     * @param  bidTimeout    : 입찰 결과 대기 시간
+     * @param  commitTimeout : 저장 결과 대기 시간
+     * @return Duration      : 응답 대기 시간
+     */
+    static Duration readTimeout(Duration readMargin, Duration bidTimeout, Duration commitTimeout) {
+        return bidTimeout.plus(commitTimeout.multipliedBy(2)).plus(readMargin);
+    }
+
+    /**
+     * 입찰(담당 노드에서 처리)
+     *
+     * @param  itemId       : 경매 식별 값
+     * @param  bidderId     : 입찰자 아이디
+     * @param  bid          : 입찰가
+     * @return BidResultDto : 입찰 결과
+     * @throws NotFoundItemException    : 경매가 없는 경우
+     * @throws InvalidBidException      : 입찰할 수 없는 경우
+     * @throws TooManyRequestsException : 대기열이 가득 찼거나 대기 시간을 초과한 경우
+     * @throws BidNotSavedException     : 저장에 실패했거나 결과를 확인하지 못한 경우
+     */
+    public BidResultDto bid(Long itemId, Long bidderId, long bid) {
+        ClusterNode owner = clusterMembership.ownerOf(itemId);
+
+        if(clusterMembership.isSelf(owner)) {
+            return bidEngine.bid(itemId, bidderId, bid);
+        }
+
+        return forwardTimer.record(() -> forward(owner, itemId, bidderId, bid));
+    }
+
+    /**
+     * 담당 노드로 입찰 전달
+     *
+     * @param  owner        : 담당 노드
+     * @param  itemId       : 경매 식별 값
+     * @param  bidderId     : 입찰자 아이디
+     * @param  bid          : 입찰가
+     * @return BidResultDto : 입찰 결과
+     */
+    private BidResultDto forward(ClusterNode owner, Long itemId, Long bidderId, long bid) {
+        try {
+            return restTemplate.postForObject(owner.getAddress() + FORWARD_PATH,
+                    new ForwardedBidDto(bidderId, bid), BidResultDto.class, itemId);
+        } catch (HttpStatusCodeException e) {
+            throw toException(owner, e);
+        } catch (ResourceAccessException e) {
+            if(e.getCause() instanceof ConnectException) {
+                log.error("담당 노드 연결 실패, 현재 노드에서 처리 : owner={}, itemId={}", owner.getId(), itemId);
+                fallbackCounter.increment();
+                return bidEngine.bid(itemId, bidderId, bid);
+            }
+
+            log.error("담당 노드 응답 없음 : owner={}, itemId={}, {}", owner.getId(), itemId, e.getMessage());
+            throw new BidNotSavedException();
+        }
+    }
+
+    /**
+     * 담당 노드의 실패 응답을 같은 예외로 변환
+     *
+     * @param  owner            : 담당 노드
+     * @param  e                : 실패 응답
+     * @return RuntimeException : 변환된 예외
+     */
+    private static RuntimeException toException(ClusterNode owner, HttpStatusCodeException e) {
+        switch (e.getStatusCode()) {
+            case NOT_FOUND:
+                return new NotFoundItemException();
+            case CONFLICT:
+                return new InvalidBidException(e.getResponseBodyAsString(StandardCharsets.UTF_8));
+            case TOO_MANY_REQUESTS:
+                return new TooManyRequestsException();
+            default:
+                log.error("담당 노드 입찰 실패 : owner={}, status={}", owner.getId(), e.getStatusCode());
+                return new BidNotSavedException();
+        }
+    }
+}
@@ -0,0 +1,556 @@
+package com.mmserver.service;
+
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.domain.model.Item;
+import com.mmserver.exception.NotFoundItemException;
+import com.mmserver.exception.TooManyRequestsException;
+import com.mmserver.repository.AuctionRepository;
+import com.mmserver.repository.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 경매 가격 실시간 전송(Server-Sent Events)
+ *
+ *  - 경매 별 구독자에게 현재 가격, 입찰 수 전송(DB Polling 대신 입찰 처리 시 전송)
+ *  - 구독자 별로 전송하지 못한 가격은 하나만 유지(최신 가격으로 교체)
+ *    => 느린 구독자는 중간 가격을 건너뛰고 최신 가격을 받음(대기열이 쌓이지 않음)
+ *  - 구독자 별로 한번에 하나의 전송만 실행(전송 Thread Pool을 느린 구독자가 모두 점유하지 않음)
+ *  - 전송할 가격이 없는 구독자에게 주기적으로 Heartbeat 전송(Proxy 연결 유지, 끊어진 연결 정리)
+ *  - 한번의 전송이 sendTimeout을 넘으면 해당 구독 종료(전송 Thread 중단)
+ *    => 느린 구독자가 전송 Thread 수 만큼 있어도, 중단된 Thread 수 만큼 전송 Thread를 늘려서 다른 구독자 전송 유지
+ */
+@Slf4j
+@Service
+public class BidSubscriptionService {
+
+    /**
+     * 가격 변경 Event 이름
+     */
+    private static final String PRICE_EVENT = "price";
+
+    /**
+     * Heartbeat(SSE Comment)
+     */
+    private static final Object HEARTBEAT = new Object();
+
+    /**
+     * 경매 식별 값 별 구독 정보
+     */
+    private final ConcurrentHashMap<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * 전송 Thread Pool
+     */
+    private final ThreadPoolExecutor sender;
+
+    /**
+     * 경매 데이터 관리 Repository
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * 경매 진행(입찰) 데이터 관리 Repository
+     */
+    private final AuctionRepository auctionRepository;
+
+    /**
+     * 구독 유지 시간(만료 후 Client 재연결)
+     */
+    private final long timeoutMillis;
+
+    /**
+     * 최대 구독자 수
+     */
+    private final int maxSubscribers;
+
+    /**
+     * 한번의 전송 최대 시간
+     */
+    private final long sendTimeoutNanos;
+
+    /**
+     * 현재 구독자 수
+     */
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    /**
+     * 최신 가격으로 교체되어 전송하지 않은 가격 수
+     */
+    private final Counter coalescedCounter;
+
+    /**
+     * 전송 시간 초과로 종료된 구독 수
+     */
+    private final Counter slowCounter;
+
+    /**
+     * 생성자
+     *
+     * @param senderThreads  : 전송 Thread 수
+     * @param timeout        : 구독 유지 시간
+     * @param maxSubscribers : 최대 구독자 수
+     * @param sendTimeout    : 한번의 전송 최대 시간(초과 시 구독 종료)
+     */
+    public BidSubscriptionService(@Value("${auction.subscription.senderThreads:4}") int senderThreads,
+                                  @Value("${auction.subscription.timeout:30m}") Duration timeout,
+                                  @Value("${auction.subscription.maxSubscribers:10000}") int maxSubscribers,
+                                  @Value("${auction.subscription.sendTimeout:5s}") Duration sendTimeout,
+                                  ItemRepository itemRepository,
+                                  AuctionRepository auctionRepository,
+                                  MeterRegistry meterRegistry) {
+        this.itemRepository    = itemRepository;
+        this.auctionRepository = auctionRepository;
+        this.timeoutMillis     = timeout.toMillis();
+        this.maxSubscribers    = maxSubscribers;
+        this.sendTimeoutNanos  = sendTimeout.toNanos();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bid-sse-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.coalescedCounter = Counter.builder("auction.subscription.coalesced")
+                .description("최신 가격으로 교체된 미전송 가격 수")
+                .register(meterRegistry);
+        this.slowCounter = Counter.builder("auction.subscription.slow")
+                .description("전송 시간 초과로 종료된 구독 수")
+                .register(meterRegistry);
+
+        Gauge.builder("auction.subscription.subscribers", subscribers, AtomicInteger::get)
+                .description("가격 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경매 가격 구독
+     * 구독 즉시 현재 가격 전송
+     *
+     * @param  itemId     : 경매 식별 값
+     * @return SseEmitter : 구독 연결
+     * @throws NotFoundItemException    : 경매가 없는 경우
+     * @throws TooManyRequestsException : 최대 구독자 수를 초과한 경우
+     */
+    public SseEmitter subscribe(Long itemId) {
+        // 아직 가격이 없는 경매는 구독 등록 전에 DB에서 현재 가격 조회
+        Channel existing = channels.get(itemId);
+        BidResultDto snapshot = existing != null && existing.latest.get() != null ? null : current(itemId);
+
+        if(subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            log.error("최대 구독자 수 초과 : {}", maxSubscribers);
+            throw new TooManyRequestsException();
+        }
+
+        Subscriber subscriber = new Subscriber(itemId, newEmitter(timeoutMillis));
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        Channel channel = channels.compute(itemId, (key, current) -> {
+            Channel target = current != null ? current : new Channel();
+            target.subscribers.add(subscriber);
+            return target;
+        });
+
+        if(snapshot != null) {
+            channel.update(snapshot);
+        }
+
+        signal(subscriber, channel.latest.get());
+
+        return subscriber.emitter;
+    }
+
+    /**
+     * 경매 가격 변경 전송
+     *
+     * @param price : 입찰 결과(현재 가격)
+     */
+    public void publish(BidResultDto price) {
+        Channel channel = channels.get(price.getItemId());
+
+        if(channel == null || !channel.update(price)) {
+            return;
+        }
+
+        for (Subscriber subscriber : channel.subscribers) {
+            signal(subscriber, channel.latest.get());
+        }
+    }
+
+    /**
+     * 전송할 가격이 없는 구독자에게 Heartbeat 전송
+     */
+    @Scheduled(fixedDelayString = "${auction.subscription.heartbeatInterval:PT15S}")
+    public void heartbeat() {
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                signal(subscriber, HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * 전송 시간을 초과한 구독 종료
+     *  - 전송 중인 Thread를 중단하고, 전송이 끝날 때까지 전송 Thread를 하나 늘림
+     *  - Emitter 종료는 전송 Thread에서 처리(전송 중에는 Emitter Lock을 점유하고 있음)
+     */
+    @Scheduled(fixedDelayString = "${auction.subscription.sendCheckInterval:PT1S}")
+    public void expireSlowSends() {
+        long now = System.nanoTime();
+
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                if(subscriber.abandon(now, sendTimeoutNanos)) {
+                    log.error("구독 전송 시간 초과, 구독 종료 : itemId={}", subscriber.itemId);
+                    slowCounter.increment();
+                    resizeSender(1);
+                    unsubscribe(subscriber);
+                }
+            }
+        }
+    }
+
+    /**
+     * 구독자에게 전송할 내용 등록 후 전송 예약
+     * (이미 전송 예약된 경우 전송할 내용만 교체)
+     *
+     * @param subscriber : 구독자
+     * @param payload    : 가격 또는 Heartbeat
+     */
+    private void signal(Subscriber subscriber, Object payload) {
+        if(payload == HEARTBEAT) {
+            // 전송할 가격이 있으면 Heartbeat 불필요
+            if(!subscriber.pending.compareAndSet(null, HEARTBEAT)) {
+                return;
+            }
+        } else {
+            long sortNo = ((BidResultDto) payload).getSortNo();
+            Object previous;
+
+            // 더 최신 가격이 이미 등록된 경우 유지
+            do {
+                previous = subscriber.pending.get();
+
+                if(previous instanceof BidResultDto && ((BidResultDto) previous).getSortNo() >= sortNo) {
+                    return;
+                }
+            } while (!subscriber.pending.compareAndSet(previous, payload));
+
+            if(previous != null && previous != HEARTBEAT) {
+                coalescedCounter.increment();
+            }
+        }
+
+        schedule(subscriber);
+    }
+
+    /**
+     * 전송 예약(구독자 별로 하나만 실행)
+     *
+     * @param subscriber : 구독자
+     */
+    private void schedule(Subscriber subscriber) {
+        if(subscriber.active.get() && subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * 전송할 내용이 없을 때까지 전송(전송 Thread)
+     *
+     * @param subscriber : 구독자
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            Object payload;
+
+            while ((payload = subscriber.pending.getAndSet(null)) != null) {
+                if(payload == HEARTBEAT) {
+                    send(subscriber, SseEmitter.event().comment("heartbeat"));
+                } else {
+                    BidResultDto price = (BidResultDto) payload;
+
+                    // 이미 전송한 가격보다 이전 가격은 전송하지 않음
+                    if(price.getSortNo() <= subscriber.sentSortNo) {
+                        continue;
+                    }
+
+                    subscriber.sentSortNo = price.getSortNo();
+                    send(subscriber, SseEmitter.event()
+                            .name(PRICE_EVENT)
+                            .id(String.valueOf(price.getSortNo()))
+                            .data(price));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊어졌거나 이미 종료된 구독, 전송 시간 초과
+            log.debug("구독 전송 실패 : {}", e.getMessage());
+            subscriber.emitter.completeWithError(e);
+            unsubscribe(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+
+            // 전송 시간 초과로 늘린 전송 Thread 반환
+            if(subscriber.abandoned) {
+                resizeSender(-1);
+            }
+        }
+
+        // 예약 해제 직전에 등록된 내용 전송
+        if(subscriber.pending.get() != null) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 전송(시작 시간 기록, 시간 초과로 중단된 경우 실패 처리)
+     *
+     * @param subscriber : 구독자
+     * @param event      : 전송할 Event
+     * @throws IOException : 연결이 끊어졌거나 전송 시간을 초과한 경우
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.begin();
+
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.end();
+        }
+
+        if(subscriber.abandoned) {
+            throw new IOException("구독 전송 시간 초과");
+        }
+    }
+
+    /**
+     * 전송 Thread 수 변경
+     *
+     * @param delta : 변경할 Thread 수
+     */
+    private void resizeSender(int delta) {
+        synchronized (sender) {
+            if(delta > 0) {
+                sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+                sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+            } else {
+                sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+                sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    /**
+     * 구독 연결 생성
+     *
+     * @param  timeoutMillis : 구독 유지 시간
+     * @return SseEmitter    : 구독 연결
+     */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 구독 해제
+     * (구독자가 없는 경매는 구독 정보 제거)
+     *
+     * @param subscriber : 구독자
+     */
+    private void unsubscribe(Subscriber subscriber) {
+        if(!subscriber.active.compareAndSet(true, false)) {
+            return;
+        }
+
+        subscribers.decrementAndGet();
+        channels.computeIfPresent(subscriber.itemId, (key, channel) -> channel.remove(subscriber));
+    }
+
+    /**
+     * 현재 가격 조회(마지막 입찰 기록, 입찰이 없는 경우 시작 가격)
+     *
+     * @param  itemId       : 경매 식별 값
+     * @return BidResultDto : 현재 가격
+     */
+    private BidResultDto current(Long itemId) {
+        Item item = itemRepository.findById(itemId).orElseThrow(NotFoundItemException::new);
+
+        return auctionRepository.findTopByItemIdOrderBySortNoDesc(itemId)
+                .map(last -> BidResultDto.builder()
+                        .itemId(itemId)
+                        .sortNo(last.getSortNo())
+                        .bid(last.getBid())
+                        .bidCount(last.getSortNo())
+                        .bidDate(last.getBidDate())
+                        .build())
+                .orElseGet(() -> BidResultDto.builder()
+                        .itemId(itemId)
+                        .bid(item.getPrice())
+                        .build());
+    }
+
+    /**
+     * 애플리케이션 종료 시, 구독 종료(Client 재연결)
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+
+        sender.shutdown();
+    }
+
+    /**
+     * 경매 별 구독자와 최신 가격
+     */
+    private static final class Channel {
+
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+
+        private final AtomicReference<BidResultDto> latest = new AtomicReference<>();
+
+        /**
+         * 최신 가격 변경(입찰 순서가 더 큰 경우만)
+         *
+         * @param  price   : 입찰 결과
+         * @return boolean : 변경된 경우 => true
+         */
+        private boolean update(BidResultDto price) {
+            BidResultDto current;
+
+            do {
+                current = latest.get();
+
+                if(current != null && current.getSortNo() >= price.getSortNo()) {
+                    return false;
+                }
+            } while (!latest.compareAndSet(current, price));
+
+            return true;
+        }
+
+        /**
+         * 구독자 제거
+         *
+         * @param  subscriber : 제거할 구독자(null => 제거하지 않고 비어있는지만 확인)
+         * @return Channel    : 구독자가 없는 경우 null
+         */
+        private Channel remove(Subscriber subscriber) {
+            if(subscriber != null) {
+                subscribers.remove(subscriber);
+            }
+
+            return subscribers.isEmpty() ? null : this;
+        }
+    }
+
+    /**
+     * 구독자와 전송하지 않은 내용
+     */
+    private static final class Subscriber {
+
+        private final Long itemId;
+
+        private final SseEmitter emitter;
+
+        /**
+         * 전송하지 않은 최신 가격 또는 Heartbeat
+         */
+        private final AtomicReference<Object> pending = new AtomicReference<>();
+
+        /**
+         * 전송 예약 여부
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final AtomicBoolean active = new AtomicBoolean(true);
+
+        /**
+         * 마지막으로 전송한 입찰 순서(전송 Thread에서만 변경, 한번에 하나만 실행)
+         */
+        private volatile long sentSortNo = -1;
+
+        /**
+         * 전송 시작 시간(전송 중이 아닌 경우 0), 전송 중인 Thread
+         */
+        private long sendStartNanos;
+
+        private Thread sendingThread;
+
+        /**
+         * 전송 시간 초과로 종료 여부
+         */
+        private volatile boolean abandoned;
+
+        private Subscriber(Long itemId, SseEmitter emitter) {
+            this.itemId  = itemId;
+            this.emitter = emitter;
+        }
+
+        private synchronized void begin() {
+            sendingThread  = Thread.currentThread();
+            sendStartNanos = System.nanoTime();
+        }
+
+        private synchronized void end() {
+            sendStartNanos = 0;
+            sendingThread  = null;
+
+            // 시간 초과로 중단 요청된 경우 전송 Thread 중단 상태 해제
+            if(abandoned) {
+                Thread.interrupted();
+            }
+        }
+
+        /**
+         * 전송 시간 초과 시 전송 중인 Thread 중단
+         * (전송이 끝난 Thread는 다른 구독자를 전송할 수 있으므로 전송 중인 경우만 중단)
+         *
+         * @param  now         : 현재 시간
+         * @param  timeoutNanos : 한번의 전송 최대 시간
+         * @return boolean     : 중단한 경우 true
+         */
+        private synchronized boolean abandon(long now, long timeoutNanos) {
+            if(abandoned || sendStartNanos == 0 || now - sendStartNanos < timeoutNanos) {
+                return false;
+            }
+
+            abandoned = true;
+            sendingThread.interrupt();
+
+            return true;
+        }
+    }
+}
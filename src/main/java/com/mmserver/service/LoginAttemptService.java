@@ -0,0 +1,165 @@
+package com.mmserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 로그인 실패 관리 Service
+ *
+ *  - 이메일, IP 별 로그인 실패 시간을 Redis Sorted Set에 기록(Sliding Window)
+ *  - 집계 기간 내 실패 횟수가 기준을 넘으면 잠금 시간 동안 로그인 차단
+ *  - 실패 기록과 잠금은 Redis 만료 시간으로 자동 삭제
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+    /**
+     * 이메일 별 실패 기록 Key Prefix
+     */
+    private static final String EMAIL_FAIL_PREFIX = "login:fail:email:";
+
+    /**
+     * 이메일 별 잠금 Key Prefix
+     */
+    private static final String EMAIL_LOCK_PREFIX = "login:lock:email:";
+
+    /**
+     * IP 별 실패 기록 Key Prefix
+     */
+    private static final String IP_FAIL_PREFIX = "login:fail:ip:";
+
+    /**
+     * IP 별 잠금 Key Prefix
+     */
+    private static final String IP_LOCK_PREFIX = "login:lock:ip:";
+
+    /**
+     * 로그인 실패 기록 Script
+     */
+    private static final RedisScript<Long> RECORD_FAILURE_SCRIPT = recordFailureScript();
+
+    /**
+     * Redis 문자열 처리 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 실패 횟수 집계 기간
+     */
+    private final Duration window;
+
+    /**
+     * 이메일 잠금 기준 횟수
+     */
+    private final int emailThreshold;
+
+    /**
+     * IP 잠금 기준 횟수
+     */
+    private final int ipThreshold;
+
+    /**
+     * 잠금 시간
+     */
+    private final Duration lockDuration;
+
+    /**
+     * 생성자
+     *
+     * @param window         : 실패 횟수 집계 기간
+     * @param emailThreshold : 이메일 잠금 기준 횟수
+     * @param ipThreshold    : IP 잠금 기준 횟수
+     * @param lockDuration   : 잠금 시간
+     */
+    public LoginAttemptService(@Value("${security.login.window:10m}") Duration window,
+                               @Value("${security.login.emailThreshold:5}") int emailThreshold,
+                               @Value("${security.login.ipThreshold:50}") int ipThreshold,
+                               @Value("${security.login.lockDuration:15m}") Duration lockDuration,
+                               StringRedisTemplate redisTemplate) {
+        this.window         = window;
+        this.emailThreshold = emailThreshold;
+        this.ipThreshold    = ipThreshold;
+        this.lockDuration   = lockDuration;
+        this.redisTemplate  = redisTemplate;
+    }
+
+    /**
+     * 잠금 여부 확인
+     *
+     * @param  email    : 사용자 이메일
+     * @param  clientIp : 요청 IP
+     * @return boolean  : 이메일 또는 IP가 잠긴 경우 => true
+     */
+    public boolean isLocked(String email, String clientIp) {
+        Long locked = redisTemplate.countExistingKeys(Arrays.asList(EMAIL_LOCK_PREFIX + email, IP_LOCK_PREFIX + clientIp));
+
+        return locked != null && locked > 0;
+    }
+
+    /**
+     * 로그인 실패 기록
+     *
+     * @param  email    : 사용자 이메일
+     * @param  clientIp : 요청 IP
+     * @return boolean  : 이메일이 잠금 상태로 전환된 경우 => true
+     */
+    public boolean recordFailure(String email, String clientIp) {
+        Long result = redisTemplate.execute(RECORD_FAILURE_SCRIPT,
+                Arrays.asList(EMAIL_FAIL_PREFIX + email, EMAIL_LOCK_PREFIX + email, IP_FAIL_PREFIX + clientIp, IP_LOCK_PREFIX + clientIp),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(window.toMillis()),
+                String.valueOf(emailThreshold),
+                String.valueOf(ipThreshold),
+                String.valueOf(lockDuration.toMillis()),
+                UUID.randomUUID().toString());
+
+        boolean locked = result != null && result == 1L;
+        if(locked) {
+            log.error("로그인 실패 횟수 초과로 잠금 : {}", email);
+        }
+
+        return locked;
+    }
+
+    /**
+     * 로그인 성공 시, 이메일 실패 기록 삭제
+     *
+     * @param email : 사용자 이메일
+     */
+    public void reset(String email) {
+        redisTemplate.delete(EMAIL_FAIL_PREFIX + email);
+    }
+
+    /**
+     * 이메일 잠금 기준 횟수 접근자
+     *
+     * @return int : 이메일 잠금 기준 횟수
+     */
+    public int getEmailThreshold() {
+        return emailThreshold;
+    }
+
+    /**
+     * 로그인 실패 기록 Script 로드
+     *
+     * @return RedisScript<Long> : 실패 기록 Script
+     */
+    private static RedisScript<Long> recordFailureScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/record_login_failure.lua")));
+        script.setResultType(Long.class);
+
+        return script;
+    }
+}
@@ -0,0 +1,153 @@
+package com.mmserver.service;
+
+import com.mmserver.config.cache.UserInfoCache;
+import com.mmserver.domain.LoginRecordDto;
+import com.mmserver.domain.model.User;
+import com.mmserver.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 기록(최근 로그인 시간, 로그인 포인트) Write-Behind 저장
+ *
+ *  - 로그인 시 바로 저장하지 않고 사용자 별로 메모리에 모아서 일정 주기로 JDBC Batch 저장
+ *  - 같은 사용자의 반복 로그인은 하나로 합쳐서 저장
+ *  - 오늘 이미 로그인한 사용자는 저장 대상에서 제외
+ *  - 포인트는 날짜 조건으로 변경하기 때문에 하루 한번만 지급
+ *  - 애플리케이션 종료 시 남은 기록 저장
+ */
+@Slf4j
+@Component
+public class LoginBookkeepingWriter {
+
+    /**
+     * 사용자 식별 값 별 저장 대기 중인 로그인 기록
+     */
+    private final ConcurrentHashMap<Long, LoginRecordDto> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 데이터 관리 Repository
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 정보 Near Cache
+     */
+    private final UserInfoCache userInfoCache;
+
+    /**
+     * 한번에 저장할 최대 개수
+     */
+    private final int batchSize;
+
+    /**
+     * 생성자
+     *
+     * @param batchSize : 한번에 저장할 최대 개수
+     */
+    public LoginBookkeepingWriter(@Value("${login.bookkeeping.batchSize:500}") int batchSize,
+                                  UserRepository userRepository,
+                                  UserInfoCache userInfoCache) {
+        this.batchSize      = batchSize;
+        this.userRepository = userRepository;
+        this.userInfoCache  = userInfoCache;
+    }
+
+    /**
+     * 로그인 기록 저장 예약
+     * (User.lastLoginUpdate() 호출 전에 저장된 로그인 날짜로 확인)
+     *
+     * @param user : 로그인 사용자
+     */
+    public void enqueue(User user) {
+        LocalDate today = LocalDate.now();
+
+        // 오늘 이미 반영된 사용자
+        if(today.equals(user.getLastLogin())) {
+            return;
+        }
+
+        pending.merge(user.getId(), new LoginRecordDto(user.getId(), user.getEmail(), today), LoginBookkeepingWriter::latest);
+    }
+
+    /**
+     * 저장 대기 중인 로그인 기록 일괄 저장
+     */
+    @Scheduled(fixedDelayString = "${login.bookkeeping.flushInterval:PT1S}")
+    public void flush() {
+        if(pending.isEmpty()) {
+            return;
+        }
+
+        List<LoginRecordDto> records = new ArrayList<>();
+
+        for (Long userId : pending.keySet()) {
+            // 꺼낸 Thread만 저장(종료 시 flush와 동시에 실행되어도 중복 저장 없음)
+            LoginRecordDto record = pending.remove(userId);
+            if(record == null) {
+                continue;
+            }
+
+            records.add(record);
+
+            if(records.size() >= batchSize) {
+                write(records);
+                records = new ArrayList<>();
+            }
+        }
+
+        if(!records.isEmpty()) {
+            write(records);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시, 남은 로그인 기록 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 로그인 기록 저장
+     * 실패한 경우 다음 주기에 다시 저장
+     *
+     * @param records : 로그인 기록
+     */
+    private void write(List<LoginRecordDto> records) {
+        try {
+            int[] counts = userRepository.updateLastLogins(records);
+
+            // 변경된 사용자 정보(포인트) 캐시 무효화
+            for (int i = 0; i < counts.length; i++) {
+                if(counts[i] != 0) {
+                    userInfoCache.invalidate(records.get(i).getEmail(), false);
+                }
+            }
+
+            log.debug("로그인 기록 저장 : {}", records.size());
+        } catch (RuntimeException e) {
+            log.error("로그인 기록 저장 실패 : {}", e.getMessage());
+
+            for (LoginRecordDto record : records) {
+                pending.merge(record.getUserId(), record, LoginBookkeepingWriter::latest);
+            }
+        }
+    }
+
+    /**
+     * 최근 날짜의 로그인 기록 선택
+     */
+    private static LoginRecordDto latest(LoginRecordDto prev, LoginRecordDto next) {
+        return next.getLoginDate().isAfter(prev.getLoginDate()) ? next : prev;
+    }
+}
@@ -0,0 +1,186 @@
+package com.mmserver.service;
+
+import com.mmserver.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 암호화 Service
+ *
+ *  - BCrypt 연산을 요청 Thread가 아닌 전용 Thread Pool에서 수행
+ *  - 대기열이 가득 찬 경우 즉시 거절(HttpStatus 429)해서 요청 Thread가 BCrypt에 묶이지 않도록 함
+ *  - 연산 별(encode, matches) 처리 시간 측정(auth.password.hash)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    /**
+     * 암호화 Encoder
+     */
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * 암호화 전용 Thread Pool
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 결과 대기 시간
+     */
+    private final Duration timeout;
+
+    /**
+     * 암호화 처리 시간
+     */
+    private final Timer encodeTimer;
+
+    /**
+     * 비밀번호 확인 처리 시간
+     */
+    private final Timer matchesTimer;
+
+    /**
+     * 거절된 요청 수
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * 생성자
+     *
+     * @param threads       : Thread 수
+     * @param queueCapacity : 대기열 크기
+     * @param timeout       : 결과 대기 시간
+     */
+    public PasswordHashingService(@Value("${security.password.threads:2}") int threads,
+                                  @Value("${security.password.queueCapacity:32}") int queueCapacity,
+                                  @Value("${security.password.timeout:3s}") Duration timeout,
+                                  PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout         = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer     = hashTimer(meterRegistry, "encode");
+        this.matchesTimer    = hashTimer(meterRegistry, "matches");
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("대기열 초과로 거절된 비밀번호 암호화 요청 수")
+                .register(meterRegistry);
+
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size())
+                .description("비밀번호 암호화 대기 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 암호화
+     *
+     * @param  rawPassword : 비밀번호
+     * @return String      : 암호화된 비밀번호
+     * @throws TooManyRequestsException : 대기열이 가득 찼거나 대기 시간을 초과한 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 확인
+     *
+     * @param  rawPassword     : 입력된 비밀번호
+     * @param  encodedPassword : 저장된 비밀번호
+     * @return boolean         : 일치 여부(true => 일치)
+     * @throws TooManyRequestsException : 대기열이 가득 찼거나 대기 시간을 초과한 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 비밀번호가 현재 설정(BCrypt Cost)보다 낮게 암호화되었는지 확인
+     *
+     * @param  encodedPassword : 저장된 비밀번호
+     * @return boolean         : 다시 암호화가 필요한 경우 => true
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 암호화 전용 Thread Pool에서 실행 후 결과 대기
+     *
+     * @param  timer : 처리 시간 측정 Timer
+     * @param  task  : 실행할 작업
+     * @return T     : 실행 결과
+     */
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            log.error("비밀번호 암호화 대기열 초과");
+            rejectedCounter.increment();
+            throw new TooManyRequestsException();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("비밀번호 암호화 대기 시간 초과");
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException();
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 연산 별 처리 시간 Timer 생성
+     *
+     * @param  meterRegistry : Meter Registry
+     * @param  operation     : 연산 이름
+     * @return Timer         : 처리 시간 Timer
+     */
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("비밀번호 암호화 처리 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 종료 시, Thread Pool 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
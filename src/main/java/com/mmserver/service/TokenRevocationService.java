@@ -0,0 +1,206 @@
+package com.mmserver.service;
+
+import com.mmserver.utils.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 폐기 관리 Service
+ *
+ *  - 폐기된 토큰 식별 값(jti)은 토큰 남은 유효 시간만큼 Redis에 저장
+ *  - 노드마다 폐기된 jti의 Bloom Filter를 유지해서, 폐기되었을 수 있는 토큰만 Redis 확인
+ *  - 다른 노드에서 폐기된 jti는 Redis Pub/Sub으로 수신해서 Bloom Filter에 추가
+ *  - Bloom Filter는 삭제가 불가능하기 때문에 주기적으로 Redis 기준으로 다시 생성
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    /**
+     * 폐기된 토큰 Key Prefix
+     */
+    private static final String KEY_PREFIX = "revoked:";
+
+    /**
+     * 토큰 폐기 Redis Channel
+     */
+    private static final String REVOKED_CHANNEL = "token:revoked";
+
+    /**
+     * SCAN 한번에 조회할 Key 개수
+     */
+    private static final int SCAN_COUNT = 1000;
+
+    /**
+     * Redis 문자열 처리 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Bloom Filter 예상 저장 개수
+     */
+    private final long expectedInsertions;
+
+    /**
+     * Bloom Filter 오탐률
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * 폐기된 jti Bloom Filter
+     */
+    private volatile BloomFilter revoked;
+
+    /**
+     * 다시 생성 중인 Bloom Filter
+     * (생성 중에 수신한 jti를 놓치지 않기 위함)
+     */
+    private volatile BloomFilter rebuilding;
+
+    /**
+     * 생성자
+     *
+     * @param expectedInsertions : Bloom Filter 예상 저장 개수
+     * @param falsePositiveRate  : Bloom Filter 오탐률
+     */
+    public TokenRevocationService(@Value("${token.revocation.expectedInsertions:100000}") long expectedInsertions,
+                                  @Value("${token.revocation.falsePositiveRate:0.001}") double falsePositiveRate,
+                                  StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate  = falsePositiveRate;
+        this.redisTemplate      = redisTemplate;
+        this.revoked            = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        // 다른 노드의 폐기 메시지 수신
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+    }
+
+    /**
+     * Access Token 폐기
+     *
+     * @param jti        : 토큰 식별 값
+     * @param expiration : 토큰 만료 시간
+     */
+    public void revoke(String jti, Date expiration) {
+        long expireMillis = expiration.getTime() - System.currentTimeMillis();
+
+        // 이미 만료된 토큰은 폐기할 필요 없음
+        if(jti == null || expireMillis <= 0) {
+            return;
+        }
+
+        log.info("Access Token 폐기 : {}", jti);
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", expireMillis, TimeUnit.MILLISECONDS);
+        add(jti);
+        redisTemplate.convertAndSend(REVOKED_CHANNEL, jti);
+    }
+
+    /**
+     * Access Token 폐기 여부 확인
+     * Bloom Filter에 없으면 Redis를 확인하지 않음
+     *
+     * @param  jti     : 토큰 식별 값
+     * @return boolean : 폐기 여부(true => 폐기된 토큰)
+     */
+    public boolean isRevoked(String jti) {
+        if(jti == null || !revoked.mightContain(jti)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+    }
+
+    /**
+     * 다른 노드의 폐기 메시지 수신
+     *
+     * @param message : 폐기된 jti
+     * @param pattern : 구독 Channel
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 애플리케이션 시작 시, Redis에 저장된 폐기 목록으로 Bloom Filter 생성
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("폐기 목록 조회 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis에 저장된 폐기 목록으로 Bloom Filter 다시 생성
+     * (만료된 jti 제거)
+     */
+    @Scheduled(fixedDelayString = "${token.revocation.rebuildInterval:PT5M}")
+    public void rebuild() {
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = filter;
+
+        try {
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(KEY_PREFIX + "*")
+                    .count(SCAN_COUNT)
+                    .build();
+
+            Long count = redisTemplate.execute((RedisCallback<Long>) connection -> {
+                long scanned = 0;
+
+                try (Cursor<byte[]> cursor = connection.scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        filter.put(key.substring(KEY_PREFIX.length()));
+                        scanned++;
+                    }
+                }
+
+                return scanned;
+            });
+
+            revoked = filter;
+            log.info("폐기 목록 Bloom Filter 생성 : {}", count);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Bloom Filter에 jti 추가
+     *
+     * 다시 생성 중인 Filter를 먼저 확인
+     *  - 생성 중이 아니면(null) 이미 새 Filter로 교체되었거나, 아직 조회 전이라 Redis에서 조회됨
+     *  - 반대 순서이면 이전 Filter에 추가한 후 교체, 생성 완료되어 새 Filter에서 누락될 수 있음
+     *
+     * @param jti : 토큰 식별 값
+     */
+    private void add(String jti) {
+        BloomFilter next = rebuilding;
+        if(next != null) {
+            next.put(jti);
+        }
+
+        revoked.put(jti);
+    }
+}
@@ -0,0 +1,271 @@
+package com.mmserver.service;
+
+import com.mmserver.repository.UserRepository;
+import com.mmserver.repository.UserRepository.UserKey;
+import com.mmserver.utils.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 이메일, 이름 존재 여부 확인 Service
+ *
+ *  - 노드마다 이메일, 이름 별 Bloom Filter를 유지해서, 존재하지 않는 값은 DB 조회 없이 응답
+ *  - 존재할 수 있는 값만 DB 존재 여부 Query(exists) 실행
+ *  - 가입된 사용자는 Redis Pub/Sub으로 다른 노드의 Bloom Filter에도 추가
+ *  - Bloom Filter 생성 전이나 메시지 유실에 대비해서 주기적으로 DB 기준으로 다시 생성
+ *  - 응답은 입력 중 안내용이며, 가입 시에는 DB로 다시 확인
+ */
+@Slf4j
+@Service
+public class UserExistenceService implements MessageListener {
+
+    /**
+     * 사용자 가입 Redis Channel
+     */
+    private static final String CREATED_CHANNEL = "user:created";
+
+    /**
+     * 이메일 메시지 Prefix
+     */
+    private static final String EMAIL_PREFIX = "E:";
+
+    /**
+     * 사용자 이름 메시지 Prefix
+     */
+    private static final String USER_NAME_PREFIX = "U:";
+
+    /**
+     * 사용자 데이터 관리 Repository
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Redis 메시지 발행을 위한 Template
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 전체 사용자 조회 트랜잭션
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Bloom Filter 최소 예상 저장 개수
+     */
+    private final long expectedInsertions;
+
+    /**
+     * Bloom Filter 오탐률
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * 이메일 Bloom Filter
+     * (생성 전 => null, DB 조회)
+     */
+    private volatile BloomFilter emails;
+
+    /**
+     * 사용자 이름 Bloom Filter
+     * (생성 전 => null, DB 조회)
+     */
+    private volatile BloomFilter userNames;
+
+    /**
+     * 다시 생성 중인 Bloom Filter
+     * (생성 중에 가입한 사용자를 놓치지 않기 위함)
+     */
+    private volatile BloomFilter[] rebuilding;
+
+    /**
+     * 생성자
+     *
+     * @param expectedInsertions : Bloom Filter 최소 예상 저장 개수
+     * @param falsePositiveRate  : Bloom Filter 오탐률
+     */
+    public UserExistenceService(@Value("${user.existence.expectedInsertions:100000}") long expectedInsertions,
+                                @Value("${user.existence.falsePositiveRate:0.01}") double falsePositiveRate,
+                                UserRepository userRepository,
+                                StringRedisTemplate redisTemplate,
+                                PlatformTransactionManager transactionManager,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate  = falsePositiveRate;
+        this.userRepository     = userRepository;
+        this.redisTemplate      = redisTemplate;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // 다른 노드의 가입 메시지 수신
+        listenerContainer.addMessageListener(this, new ChannelTopic(CREATED_CHANNEL));
+    }
+
+    /**
+     * 이메일 존재 여부 확인
+     *
+     * @param  email   : 사용자 이메일
+     * @return boolean : 존재 여부(true => 존재)
+     */
+    public boolean existsEmail(String email) {
+        BloomFilter filter = emails;
+        if(filter != null && !filter.mightContain(email)) {
+            return false;
+        }
+
+        return userRepository.existsByEmail(email);
+    }
+
+    /**
+     * 사용자 이름 존재 여부 확인
+     *
+     * @param  userName : 사용자 이름
+     * @return boolean  : 존재 여부(true => 존재)
+     */
+    public boolean existsUserName(String userName) {
+        BloomFilter filter = userNames;
+        if(filter != null && !filter.mightContain(userName)) {
+            return false;
+        }
+
+        return userRepository.existsByUserName(userName);
+    }
+
+    /**
+     * 저장된 사용자 이메일, 이름 추가
+     * 이미 추가된 경우 다른 노드에 알리지 않음
+     *
+     * @param email    : 사용자 이메일
+     * @param userName : 사용자 이름
+     */
+    public void register(String email, String userName) {
+        BloomFilter emailFilter    = emails;
+        BloomFilter userNameFilter = userNames;
+
+        if(emailFilter != null && emailFilter.mightContain(email)
+                && userNameFilter != null && userNameFilter.mightContain(userName)) {
+            return;
+        }
+
+        addEmail(email);
+        addUserName(userName);
+
+        redisTemplate.convertAndSend(CREATED_CHANNEL, EMAIL_PREFIX + email);
+        redisTemplate.convertAndSend(CREATED_CHANNEL, USER_NAME_PREFIX + userName);
+    }
+
+    /**
+     * 다른 노드의 가입 메시지 수신
+     *
+     * @param message : 이메일 또는 사용자 이름
+     * @param pattern : 구독 Channel
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if(body.startsWith(EMAIL_PREFIX)) {
+            addEmail(body.substring(EMAIL_PREFIX.length()));
+        } else if(body.startsWith(USER_NAME_PREFIX)) {
+            addUserName(body.substring(USER_NAME_PREFIX.length()));
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 후, 사용자 정보로 Bloom Filter 생성
+     * (생성 전까지는 DB 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("사용자 존재 여부 Bloom Filter 생성 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 정보로 Bloom Filter 다시 생성
+     * (탈퇴, 이름 변경된 값 제거)
+     */
+    @Scheduled(fixedDelayString = "${user.existence.rebuildInterval:PT1H}",
+               initialDelayString = "${user.existence.rebuildInterval:PT1H}")
+    public void rebuild() {
+        // 사용자 수가 늘어도 오탐률이 유지되도록 여유있게 생성
+        long insertions = Math.max(expectedInsertions, userRepository.count() * 2);
+
+        BloomFilter emailFilter    = new BloomFilter(insertions, falsePositiveRate);
+        BloomFilter userNameFilter = new BloomFilter(insertions, falsePositiveRate);
+        rebuilding = new BloomFilter[]{emailFilter, userNameFilter};
+
+        try {
+            Long count = readOnlyTransaction.execute(status -> {
+                long scanned = 0;
+
+                try (Stream<UserKey> keys = userRepository.streamAllKeys()) {
+                    for (UserKey key : (Iterable<UserKey>) keys::iterator) {
+                        emailFilter.put(key.getEmail());
+                        userNameFilter.put(key.getUserName());
+                        scanned++;
+                    }
+                }
+
+                return scanned;
+            });
+
+            emails    = emailFilter;
+            userNames = userNameFilter;
+            log.info("사용자 존재 여부 Bloom Filter 생성 : {}", count);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 이메일 Bloom Filter에 추가
+     *
+     * @param email : 사용자 이메일
+     */
+    private void addEmail(String email) {
+        BloomFilter filter = emails;
+        if(filter != null) {
+            filter.put(email);
+        }
+
+        BloomFilter[] next = rebuilding;
+        if(next != null) {
+            next[0].put(email);
+        }
+    }
+
+    /**
+     * 사용자 이름 Bloom Filter에 추가
+     *
+     * @param userName : 사용자 이름
+     */
+    private void addUserName(String userName) {
+        BloomFilter filter = userNames;
+        if(filter != null) {
+            filter.put(userName);
+        }
+
+        BloomFilter[] next = rebuilding;
+        if(next != null) {
+            next[1].put(userName);
+        }
+    }
+}
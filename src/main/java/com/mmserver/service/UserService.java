@@ -1,5 +1,6 @@
 package com.mmserver.service;
 
+import com.mmserver.config.cache.UserInfoCache;
 import com.mmserver.config.security.UserInfo;
 import com.mmserver.domain.UserInfoDto;
 import com.mmserver.domain.model.User;
@@ -22,9 +23,14 @@ public class UserService implements UserDetailsService {
      */
     private final UserRepository userRepository;
 
+    /**
+     * 사용자 정보 Near Cache
+     */
+    private final UserInfoCache userInfoCache;
 
     /**
      * 사용자 이메일을 통해 UserDetails 인스턴스 반환
+     * (캐시에 없는 경우만 DB 조회)
      *
      * @param  username    : 사용자 식별 값
      * @return UserDetails : Authentication에 저장될 객체
@@ -32,12 +38,14 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws NotFoundEmailException {
-        User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> {
-                    throw new NotFoundEmailException();
-                });
+        return userInfoCache.get(username, email -> {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> {
+                        throw new NotFoundEmailException();
+                    });
 
-        return new UserInfo(user);
+            return new UserInfo(user);
+        });
     }
 
     /**
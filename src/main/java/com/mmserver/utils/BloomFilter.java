@@ -0,0 +1,133 @@
+package com.mmserver.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom Filter
+ *
+ *  - mightContain 결과가 false 이면 저장되지 않은 값(False Negative 없음)
+ *  - true 이면 저장되었을 수 있는 값(오탐률은 생성 시 지정)
+ *  - 삭제를 지원하지 않기 때문에 주기적으로 다시 생성해서 사용
+ *  - 여러 Thread에서 동시에 사용 가능(Lock 없이 CAS로 Bit 세팅)
+ */
+public class BloomFilter {
+
+    /**
+     * Bit 배열
+     */
+    private final AtomicLongArray bits;
+
+    /**
+     * 전체 Bit 수
+     */
+    private final long bitSize;
+
+    /**
+     * Hash 함수 수
+     */
+    private final int hashCount;
+
+    /**
+     * 생성자
+     *
+     * @param expectedInsertions : 예상 저장 개수
+     * @param falsePositiveRate  : 오탐률(0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+
+        // 최적 Bit 수 : -n * ln(p) / (ln2)^2
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bits      = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitSize   = bits.length() * 64L;
+        // 최적 Hash 함수 수 : m / n * ln2
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    }
+
+    /**
+     * 값 저장
+     *
+     * @param value : 저장할 값
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+    }
+
+    /**
+     * 저장 여부 확인
+     *
+     * @param  value   : 확인할 값
+     * @return boolean : false => 저장되지 않은 값
+     *                   true  => 저장되었을 수 있는 값
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+
+            if((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * i 번째 Hash 함수의 Bit 위치
+     * (Double Hashing : hash1 + i * hash2)
+     */
+    private long index(long hash1, long hash2, int i) {
+        return ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+    }
+
+    /**
+     * Bit 세팅
+     */
+    private void setBit(long index) {
+        int  word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long current;
+        do {
+            current = bits.get(word);
+
+            if((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * 64bit FNV-1a Hash
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        return mix(hash);
+    }
+
+    /**
+     * Hash 값 분산(SplitMix64 Finalizer)
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+
+        return value ^ (value >>> 31);
+    }
+}
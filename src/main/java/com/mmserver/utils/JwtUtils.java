@@ -1,11 +1,13 @@
 package com.mmserver.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * JWT 관리 Util
@@ -13,22 +15,30 @@ import java.util.HashMap;
 @Slf4j
 public class JwtUtils {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<Map<String, Object>>() {};
+
     /**
      * JWT 에서 PayLoad 정보 추출
+     * (서명 검증 없음, JWT는 Base64 URL 인코딩 사용 => 인증, 토큰 발급 판단에 사용하지 않음)
      *
-     * @param  token   : JWT
-     * @return HashMap :
+     * @param  token               : JWT
+     * @return Map<String, Object> : PayLoad 정보(형식이 올바르지 않은 경우 null 반환)
      */
-    @SuppressWarnings("unchecked")
-    public static HashMap<String, String> getPayloadByToken(String token) {
+    public static Map<String, Object> getPayloadByToken(String token) {
         try {
             String[] splitJwt = token.split("\\.");
 
-            Base64.Decoder decoder = Base64.getDecoder();
-            String payload = new String(decoder.decode(splitJwt[1].getBytes()));
+            if (splitJwt.length < 2) {
+                log.error("JWT 형식이 올바르지 않습니다.");
+                return null;
+            }
+
+            String payload = new String(Base64.getUrlDecoder().decode(splitJwt[1]), StandardCharsets.UTF_8);
 
-            return new ObjectMapper().readValue(payload, HashMap.class);
-        } catch (JsonProcessingException e) {
+            return OBJECT_MAPPER.readValue(payload, PAYLOAD_TYPE);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
             log.error(e.getMessage());
             return null;
         }
@@ -0,0 +1,131 @@
+package com.mmserver.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 고정된 Lock-Free 순환 Queue(Bounded MPMC)
+ *
+ *  - 여러 Thread에서 동시에 저장, 조회 가능(Lock 없이 CAS로 위치 확보)
+ *  - 가득 찬 경우 기다리지 않고 저장 실패(false) 반환
+ *  - 칸마다 순번(sequence)을 두어 저장 중인 칸과 비어있는 칸을 구분(D. Vyukov 방식)
+ *
+ * @param <E> : 저장 타입
+ */
+public class RingBuffer<E> {
+
+    /**
+     * 위치 계산용 Mask(크기 - 1)
+     */
+    private final int mask;
+
+    /**
+     * 저장 값
+     */
+    private final AtomicReferenceArray<E> elements;
+
+    /**
+     * 칸 별 순번
+     *  - 위치와 같으면 저장 가능
+     *  - 위치 + 1 이면 조회 가능
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * 다음 저장 위치
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 다음 조회 위치
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 생성자
+     *
+     * @param capacity : 최대 저장 개수(2의 제곱수로 올림)
+     */
+    public RingBuffer(int capacity) {
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+
+        this.mask      = size - 1;
+        this.elements  = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 값 저장
+     *
+     * @param  element : 저장할 값
+     * @return boolean : 가득 찬 경우 => false
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+
+        for (;;) {
+            int  index      = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if(difference == 0) {
+                if(tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // 순번 변경으로 조회 가능 표시(값 저장 이후에 보이도록 volatile 쓰기)
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if(difference < 0) {
+                // 한 바퀴 전의 값을 아직 조회하지 않음
+                return false;
+            }
+
+            position = tail.get();
+        }
+    }
+
+    /**
+     * 값 조회 후 삭제
+     *
+     * @return E : 저장된 값(비어있는 경우 => null)
+     */
+    public E poll() {
+        long position = head.get();
+
+        for (;;) {
+            int  index      = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+
+            if(difference == 0) {
+                if(head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    // 다음 바퀴에 저장 가능 표시
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if(difference < 0) {
+                // 저장된 값 없음
+                return null;
+            }
+
+            position = head.get();
+        }
+    }
+
+    /**
+     * 최대 저장 개수
+     *
+     * @return int : 최대 저장 개수
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
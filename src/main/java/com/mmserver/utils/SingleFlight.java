@@ -0,0 +1,75 @@
+package com.mmserver.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 Key에 대한 동시 호출을 하나로 합치는 Util
+ *
+ *  - 먼저 호출한 요청만 실제로 실행하고, 실행 중에 들어온 요청은 같은 결과를 공유
+ *  - 실행이 끝나면 Key를 제거하기 때문에 결과를 캐싱하지 않음
+ *
+ * @param <K> : Key 타입
+ * @param <V> : 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * 실행 중인 호출
+     */
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Key에 해당하는 호출이 실행 중이면 결과를 기다리고, 없으면 실행
+     *
+     * @param  key      : 호출 Key
+     * @param  supplier : 실행할 함수
+     * @return V        : 실행 결과
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = calls.putIfAbsent(key, call);
+
+        // 실행 중인 호출이 있는 경우 결과 공유
+        if(running != null) {
+            return await(running);
+        }
+
+        try {
+            V result = supplier.get();
+            call.complete(result);
+
+            return result;
+        } catch (Throwable e) {
+            // Error도 결과로 전달(기다리는 요청이 멈추지 않도록)
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 실행 중인 호출 결과 대기
+     *
+     * @param  running : 실행 중인 호출
+     * @return V       : 실행 결과
+     */
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            if(e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+}
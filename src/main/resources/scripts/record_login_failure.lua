@@ -0,0 +1,35 @@
+-- 로그인 실패 기록(Sliding Window)
+--
+-- KEYS[1] : login:fail:email:{이메일}  (실패 시간 Sorted Set)
+-- KEYS[2] : login:lock:email:{이메일}  (잠금 표시)
+-- KEYS[3] : login:fail:ip:{IP}         (실패 시간 Sorted Set)
+-- KEYS[4] : login:lock:ip:{IP}         (잠금 표시)
+-- ARGV[1] : 현재 시간(ms)
+-- ARGV[2] : 실패 횟수 집계 기간(ms)
+-- ARGV[3] : 이메일 잠금 기준 횟수
+-- ARGV[4] : IP 잠금 기준 횟수
+-- ARGV[5] : 잠금 시간(ms)
+-- ARGV[6] : 실패 기록 식별 값
+--
+-- 반환 값
+--   1 : 이메일 잠금 상태로 전환된 경우
+--   0 : 그 외
+
+local function record(failKey, lockKey, threshold)
+    redis.call('ZREMRANGEBYSCORE', failKey, '-inf', tonumber(ARGV[1]) - tonumber(ARGV[2]))
+    redis.call('ZADD', failKey, ARGV[1], ARGV[6])
+    redis.call('PEXPIRE', failKey, ARGV[2])
+
+    if redis.call('ZCARD', failKey) >= tonumber(threshold) then
+        -- 이미 잠긴 경우 잠금 시간 유지
+        if redis.call('SET', lockKey, '1', 'PX', ARGV[5], 'NX') then
+            return 1
+        end
+    end
+
+    return 0
+end
+
+record(KEYS[3], KEYS[4], ARGV[4])
+
+return record(KEYS[1], KEYS[2], ARGV[3])
@@ -0,0 +1,42 @@
+-- Refresh Token 교체(Rotation)
+--
+-- KEYS[1] : rt:{사용자 아이디}          (현재 토큰 - "Access Token 지문:Refresh Token")
+-- KEYS[2] : rt:used:{제시된 토큰 지문}  (교체된 토큰 표시)
+-- KEYS[3] : rt:grace:{제시된 토큰 지문} (교체 직후 동시 요청에 대한 발급 결과)
+-- ARGV[1] : 제시된 Access Token 지문
+-- ARGV[2] : 새로운 토큰 값("Access Token 지문:Refresh Token")
+-- ARGV[3] : Refresh Token 만료 시간(ms)
+-- ARGV[4] : 새로운 Access Token
+-- ARGV[5] : 동시 요청 허용 시간(ms)
+--
+-- 반환 값
+--   ROTATED         : 교체 성공
+--   GRACE:{토큰}    : 교체 직후 동일한 토큰으로 재요청한 경우 이미 발급된 Access Token 반환
+--   REUSED          : 이미 교체된 토큰을 재사용한 경우(현재 토큰 삭제)
+--   NONE            : 저장된 토큰이 없거나 일치하지 않는 경우
+
+local grace = redis.call('GET', KEYS[3])
+if grace then
+    return 'GRACE:' .. grace
+end
+
+local current = redis.call('GET', KEYS[1])
+if current then
+    local separator = string.find(current, ':', 1, true)
+
+    -- 지문이 없는 토큰은 이전 형식으로 저장된 토큰
+    -- (제시된 Access Token의 서명은 호출 전에 검증 => 본인 토큰으로만 교체 가능)
+    if (not separator) or string.sub(current, 1, separator - 1) == ARGV[1] then
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        redis.call('SET', KEYS[2], '1', 'PX', ARGV[3])
+        redis.call('SET', KEYS[3], ARGV[4], 'PX', ARGV[5])
+        return 'ROTATED'
+    end
+end
+
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('DEL', KEYS[1])
+    return 'REUSED'
+end
+
+return 'NONE'
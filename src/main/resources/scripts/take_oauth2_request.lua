@@ -0,0 +1,14 @@
+-- OAuth2 인증 요청 조회 후 삭제(한번만 사용, Redis 6.2 미만 GETDEL 대체)
+--
+-- KEYS[1] : oauth2:req:{state}
+--
+-- 반환 값
+--  - 저장된 요청(JSON), 없는 경우 nil
+
+local value = redis.call('GET', KEYS[1])
+
+if value then
+    redis.call('DEL', KEYS[1])
+end
+
+return value
@@ -0,0 +1,74 @@
+package com.mmserver;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 테스트용 내장 Redis
+ * (Lua Script, Stream 등 Mock으로 확인할 수 없는 Redis 명령 테스트)
+ */
+public class EmbeddedRedis implements AutoCloseable {
+
+    private final RedisServer server;
+
+    private final LettuceConnectionFactory connectionFactory;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private EmbeddedRedis(RedisServer server, LettuceConnectionFactory connectionFactory) {
+        this.server            = server;
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate     = new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * 임의 Port로 Redis 실행
+     *
+     * @return EmbeddedRedis : 실행된 Redis
+     */
+    public static EmbeddedRedis start() throws Exception {
+        int port = freePort();
+        RedisServer server = new RedisServer(port);
+        server.start();
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        return new EmbeddedRedis(server, connectionFactory);
+    }
+
+    public StringRedisTemplate getRedisTemplate() {
+        return redisTemplate;
+    }
+
+    /**
+     * 모든 Key 삭제
+     */
+    public void flush() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            connectionFactory.destroy();
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mmserver.config.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cluster 노드 설정 테스트
+ */
+public class ClusterMembershipTest {
+
+    @Test
+    @DisplayName("Cluster 사용 + 인증 값 없음 : 시작 실패")
+    public void givenEnabledWithoutSecret_whenCreate_thenFail() {
+        assertThatThrownBy(() -> membership(true, ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cluster.secret");
+    }
+
+    @Test
+    @DisplayName("Cluster 사용 + 입찰 Event 전달 미사용 : 시작 실패")
+    public void givenEnabledWithoutEvents_whenCreate_thenFail() {
+        assertThatThrownBy(() -> membership(true, "secret", false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("auction.events.enabled");
+    }
+
+    @Test
+    @DisplayName("Cluster 미사용 : 인증 값 없이 현재 노드가 모든 경매 담당")
+    public void givenDisabled_whenOwnerOf_thenSelf() {
+        ClusterMembership membership = membership(false, "");
+
+        assertThat(membership.isSelf(membership.ownerOf(1L))).isTrue();
+    }
+
+    private static ClusterMembership membership(boolean enabled, String secret) {
+        return membership(enabled, secret, true);
+    }
+
+    private static ClusterMembership membership(boolean enabled, String secret, boolean eventsEnabled) {
+        return new ClusterMembership(enabled, "", 8080, Duration.ofSeconds(10), 16, secret, eventsEnabled,
+                new NodeIdentity("node-a", 8080), mock(StringRedisTemplate.class), new SimpleMeterRegistry());
+    }
+}
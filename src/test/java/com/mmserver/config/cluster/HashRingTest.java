@@ -0,0 +1,65 @@
+package com.mmserver.config.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 담당 노드 Hash Ring 테스트
+ */
+public class HashRingTest {
+
+    private static final int ITEMS = 10000;
+
+    private static final ClusterNode NODE_A = new ClusterNode("a", "http://a:8080");
+    private static final ClusterNode NODE_B = new ClusterNode("b", "http://b:8080");
+    private static final ClusterNode NODE_C = new ClusterNode("c", "http://c:8080");
+
+    @Test
+    @DisplayName("노드 목록 순서와 관계없이 같은 담당 노드")
+    public void givenSameNodes_whenOwnerOf_thenSameOwner() {
+        HashRing ring     = new HashRing(Arrays.asList(NODE_A, NODE_B, NODE_C), 128);
+        HashRing reversed = new HashRing(Arrays.asList(NODE_C, NODE_B, NODE_A), 128);
+
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            assertThat(reversed.ownerOf(itemId)).isEqualTo(ring.ownerOf(itemId));
+        }
+    }
+
+    @Test
+    @DisplayName("가상 노드 => 노드 별 담당 경매 수 편차 30% 이내")
+    public void givenVirtualNodes_whenOwnerOf_thenBalanced() {
+        HashRing ring = new HashRing(Arrays.asList(NODE_A, NODE_B, NODE_C), 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            counts.merge(ring.ownerOf(itemId).getId(), 1, Integer::sum);
+        }
+
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allMatch(count -> Math.abs(count - ITEMS / 3) < ITEMS / 3 * 0.3);
+    }
+
+    @Test
+    @DisplayName("노드 제거 => 제거된 노드의 경매만 다른 노드로 이동")
+    public void givenNodeLeft_whenOwnerOf_thenOnlyItsItemsMoved() {
+        HashRing before = new HashRing(Arrays.asList(NODE_A, NODE_B, NODE_C), 128);
+        HashRing after  = new HashRing(List.of(NODE_A, NODE_B), 128);
+
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            ClusterNode owner = before.ownerOf(itemId);
+
+            if(!owner.equals(NODE_C)) {
+                assertThat(after.ownerOf(itemId)).isEqualTo(owner);
+            } else {
+                assertThat(after.ownerOf(itemId)).isIn(NODE_A, NODE_B);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.mmserver.config.security.jwt;
+
+import com.mmserver.config.security.UserInfo;
+import com.mmserver.domain.EnumType.RoleType;
+import com.mmserver.domain.model.User;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재발급 시 만료된 Access Token 서명 검증 테스트
+ */
+public class JwtProviderTest {
+
+    private static final String SECRET = "mongmong-auction-test-secret-key-0123456789";
+
+    private static final String OTHER_SECRET = "mongmong-auction-other-secret-key-9876543210";
+
+    private static final String EMAIL = "email@gmail.com";
+
+    private static final User USER = User.ofPrincipal(42L, EMAIL, RoleType.USER, "N");
+
+    @Test
+    @DisplayName("만료된 토큰 : 서명 검증 후 PayLoad 조회")
+    public void givenExpiredToken_whenGetVerifiedClaims_thenClaims() {
+        String token = provider(SECRET, Duration.ofMinutes(-1)).createAccessToken(new UserInfo(USER)).getToken();
+
+        assertThat(TokenClaims.of(provider(SECRET, Duration.ofMinutes(30)).getVerifiedClaims(token)).getEmail()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("서명 없는 토큰, 다른 Key로 서명한 토큰 : 조회 실패")
+    public void givenForgedToken_whenGetVerifiedClaims_thenNull() {
+        JwtProvider provider = provider(SECRET, Duration.ofMinutes(30));
+
+        String unsigned = Jwts.builder().setClaims(Collections.singletonMap("em", EMAIL)).setSubject("42").compact();
+        String otherKey = provider(OTHER_SECRET, Duration.ofMinutes(-1)).createAccessToken(new UserInfo(USER)).getToken();
+
+        assertThat(provider.getVerifiedClaims(unsigned)).isNull();
+        assertThat(provider.getVerifiedClaims(otherKey)).isNull();
+    }
+
+    private static JwtProvider provider(String secret, Duration accessTokenExpireTime) {
+        return new JwtProvider(secret, "Authorization", "Bearer", false, accessTokenExpireTime,
+                TokenClaims.COMPACT_VERSION, null, null, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,91 @@
+package com.mmserver.config.security.jwt;
+
+import com.mmserver.config.security.UserInfo;
+import com.mmserver.domain.EnumType.RoleType;
+import com.mmserver.domain.model.User;
+import com.mmserver.utils.JwtUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 PayLoad 형식(v1, v2) 변환 테스트
+ */
+public class TokenClaimsTest {
+
+    private static final String SECRET = "mongmong-auction-test-secret-key-0123456789";
+
+    private static final String EMAIL = "email@gmail.com";
+
+    @Test
+    @DisplayName("v2 토큰 PayLoad 변환")
+    public void givenCompactToken_whenParse_thenClaims() {
+        String token = token(2, User.ofPrincipal(42L, EMAIL, RoleType.MANAGER, "Y"));
+
+        TokenClaims claims = TokenClaims.of(provider(2).getClaims(token));
+
+        assertThat(claims.getVersion()).isEqualTo(2);
+        assertThat(claims.getUserId()).isEqualTo(42L);
+        assertThat(claims.getEmail()).isEqualTo(EMAIL);
+        assertThat(claims.getRole()).isEqualTo(RoleType.MANAGER);
+        assertThat(claims.getLockYn()).isEqualTo("Y");
+        assertThat(claims.getId()).hasSize(22);
+        assertThat(claims.isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("v1 토큰 PayLoad 변환 : v2 발급 설정에서도 기존 토큰 사용 가능")
+    public void givenLegacyToken_whenParse_thenClaims() {
+        String token = token(1, User.ofPrincipal(42L, EMAIL, RoleType.USER, "N"));
+
+        TokenClaims claims = TokenClaims.of(provider(2).getClaims(token));
+
+        assertThat(claims.getVersion()).isEqualTo(1);
+        assertThat(claims.getUserId()).isEqualTo(42L);
+        assertThat(claims.getEmail()).isEqualTo(EMAIL);
+        assertThat(claims.getRole()).isEqualTo(RoleType.USER);
+        assertThat(claims.getLockYn()).isEqualTo("N");
+        assertThat(claims.isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명 검증 없이 추출한 PayLoad 변환 : v1, v2")
+    public void givenToken_whenDecodePayload_thenEmail() {
+        User user = User.ofPrincipal(42L, EMAIL, RoleType.USER, "N");
+
+        assertThat(TokenClaims.of(JwtUtils.getPayloadByToken(token(1, user))).getEmail()).isEqualTo(EMAIL);
+        assertThat(TokenClaims.of(JwtUtils.getPayloadByToken(token(2, user))).getEmail()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("사용자 식별 값이 없는 경우 v1 형식으로 발급")
+    public void givenUserWithoutId_whenCreate_thenLegacyFormat() {
+        String token = token(2, User.ofPrincipal(null, EMAIL, RoleType.USER, "N"));
+
+        TokenClaims claims = TokenClaims.of(provider(2).getClaims(token));
+
+        assertThat(claims.getVersion()).isEqualTo(1);
+        assertThat(claims.getEmail()).isEqualTo(EMAIL);
+        assertThat(claims.isComplete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("v2 토큰 크기 감소")
+    public void givenSameUser_whenCreate_thenCompactTokenSmaller() {
+        User user = User.ofPrincipal(42L, EMAIL, RoleType.USER, "N");
+
+        assertThat(token(2, user).length()).isLessThan(token(1, user).length());
+    }
+
+    private static JwtProvider provider(int claimVersion) {
+        return new JwtProvider(SECRET, "Authorization", "Bearer", false, Duration.ofMinutes(30), claimVersion, null, null, new SimpleMeterRegistry());
+    }
+
+    private static String token(int claimVersion, User user) {
+        return provider(claimVersion).createAccessToken(new UserInfo(user)).getToken();
+    }
+}
@@ -0,0 +1,181 @@
+package com.mmserver.config.security.oauth;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OAuth 서비스 호출 Client 테스트
+ * (로컬 Stub 서버를 OAuth 서비스로 사용)
+ */
+public class OAuth2HttpClientTest {
+
+    private static final String PROVIDER = "kakao";
+
+    private HttpServer server;
+
+    private OAuth2HttpProperties properties;
+
+    private final AtomicInteger unlinkCalls = new AtomicInteger();
+
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        OAuth2HttpProperties.Provider provider = new OAuth2HttpProperties.Provider();
+        provider.setReadTimeout(Duration.ofMillis(500));
+        provider.setUnlinkUri(url("/v1/user/unlink"));
+
+        properties = new OAuth2HttpProperties();
+        properties.setUnlinkBackoff(Duration.ofMillis(10));
+        properties.getProviders().put(PROVIDER, provider);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 성공")
+    public void givenAccessToken_whenGetUserInfo_thenAttributes() {
+        stub("/v2/user/me", 200, "{\"id\":1,\"kakao_account\":{\"email\":\"email@gmail.com\"}}", 0);
+
+        Map<String, Object> attributes = client().getUserInfo(PROVIDER, url("/v2/user/me"), "token");
+
+        assertThat(attributes).containsEntry("id", 1);
+        assertThat(authorization.get()).isEqualTo("Bearer token");
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 실패 : 응답 시간 초과")
+    public void givenSlowProvider_whenGetUserInfo_thenFailTimeout() {
+        stub("/v2/user/me", 200, "{}", 2000);
+
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> client().getUserInfo(PROVIDER, url("/v2/user/me"), "token"))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 실패 : 동시 호출 수 초과")
+    public void givenBusyProvider_whenGetUserInfo_thenFailBulkhead() throws Exception {
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        server.createContext("/v2/user/me", exchange -> {
+            received.countDown();
+            await(release);
+            respond(exchange, 200, "{}");
+        });
+
+        properties.setMaxConcurrentCalls(1);
+        properties.setAcquireTimeout(Duration.ofMillis(10));
+        OAuth2HttpClient client = client();
+
+        Future<Map<String, Object>> first = Executors.newSingleThreadExecutor()
+                .submit(() -> client.getUserInfo(PROVIDER, url("/v2/user/me"), "token"));
+        assertThat(received.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.getUserInfo(PROVIDER, url("/v2/user/me"), "token"))
+                .isInstanceOf(OAuth2AuthenticationException.class)
+                .hasMessageContaining("동시 호출 수 초과");
+
+        release.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연결 끊기 성공 : 5xx 응답 재시도")
+    public void givenUnavailableProvider_whenUnlink_thenRetry() {
+        server.createContext("/v1/user/unlink", exchange -> {
+            int status = unlinkCalls.incrementAndGet() < 3 ? 503 : 200;
+            respond(exchange, status, "{}");
+        });
+
+        assertThat(client().unlink(PROVIDER, "token")).isTrue();
+        assertThat(unlinkCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("연결 끊기 실패 : 4xx 응답은 재시도하지 않음")
+    public void givenInvalidToken_whenUnlink_thenFailWithoutRetry() {
+        server.createContext("/v1/user/unlink", exchange -> {
+            unlinkCalls.incrementAndGet();
+            respond(exchange, 401, "{}");
+        });
+
+        assertThat(client().unlink(PROVIDER, "token")).isFalse();
+        assertThat(unlinkCalls.get()).isEqualTo(1);
+    }
+
+    private OAuth2HttpClient client() {
+        return new OAuth2HttpClient(properties, new SimpleMeterRegistry());
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private void stub(String path, int status, String body, long delayMillis) {
+        server.createContext(path, exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+
+            if(delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            respond(exchange, status, body);
+        });
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream stream = exchange.getResponseBody()) {
+            stream.write(bytes);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
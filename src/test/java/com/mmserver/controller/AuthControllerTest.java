@@ -6,6 +6,7 @@ import com.mmserver.domain.SignupDto;
 import com.mmserver.domain.UserInfoDto;
 import com.mmserver.exception.DuplicationEmailException;
 import com.mmserver.exception.DuplicationUserNameException;
+import com.mmserver.exception.LockedAccountException;
 import com.mmserver.exception.MisMatchPasswordException;
 import com.mmserver.exception.NotFoundEmailException;
 import com.mmserver.service.AuthService;
@@ -30,6 +31,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import static com.mmserver.domain.EnumType.RoleType.USER;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
@@ -280,7 +282,7 @@ public class AuthControllerTest {
                 .theme(0)
                 .build();
 
-        when(authService.login(any(LoginDto.class), any(HttpServletResponse.class))).thenReturn(userInfoDto);
+        when(authService.login(any(LoginDto.class), anyString(), any(HttpServletResponse.class))).thenReturn(userInfoDto);
 
         mockMvc.perform(
                         get("/login")
@@ -315,7 +317,7 @@ public class AuthControllerTest {
     @Test
     @DisplayName("로그인 실패 - 잘못된 아이디")
     public void givenLoginDto_whenLogin_thenFailNotFoundEmail() throws Exception {
-        when(authService.login(any(LoginDto.class), any(HttpServletResponse.class))).thenThrow(new NotFoundEmailException());
+        when(authService.login(any(LoginDto.class), anyString(), any(HttpServletResponse.class))).thenThrow(new NotFoundEmailException());
 
         mockMvc.perform(
                         get("/login")
@@ -336,7 +338,7 @@ public class AuthControllerTest {
     @Test
     @DisplayName("로그인 실패 - 잘못된 패스워드")
     public void givenLoginDto_whenLogin_thenFailMisMatchPassword() throws Exception {
-        when(authService.login(any(LoginDto.class), any(HttpServletResponse.class))).thenThrow(new MisMatchPasswordException());
+        when(authService.login(any(LoginDto.class), anyString(), any(HttpServletResponse.class))).thenThrow(new MisMatchPasswordException());
 
         mockMvc.perform(
                         get("/login")
@@ -354,10 +356,31 @@ public class AuthControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("로그인 실패 - 잠긴 계정")
+    public void givenLoginDto_whenLogin_thenFailLockedAccount() throws Exception {
+        when(authService.login(any(LoginDto.class), anyString(), any(HttpServletResponse.class))).thenThrow(new LockedAccountException());
+
+        mockMvc.perform(
+                        get("/login")
+                                .param("email", "email@gamil.com")
+                                .param("password", "password")
+                                .characterEncoding("UTF-8")
+                )
+                .andDo(print())
+                .andExpect(status().isLocked())
+                .andDo(document("users/login/fail/lockedAccount",
+                        requestParameters(
+                                parameterWithName("email").description("사용자 이메일"),
+                                parameterWithName("password").description("사용자 비밀번호")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("로그아웃")
     public void given_whenLogout_thenSuccess() throws Exception {
-        when(authService.login(any(LoginDto.class), any(HttpServletResponse.class))).thenThrow(new MisMatchPasswordException());
+        when(authService.login(any(LoginDto.class), anyString(), any(HttpServletResponse.class))).thenThrow(new MisMatchPasswordException());
 
         mockMvc.perform(
                         delete("/logout")
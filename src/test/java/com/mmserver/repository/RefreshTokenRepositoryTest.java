@@ -0,0 +1,122 @@
+package com.mmserver.repository;
+
+import com.mmserver.EmbeddedRedis;
+import com.mmserver.domain.model.Token;
+import com.mmserver.repository.RefreshTokenRepository.Rotation;
+import com.mmserver.repository.RefreshTokenRepository.RotationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refresh Token 교체 Script(rotate_refresh_token.lua) 테스트
+ * (내장 Redis)
+ */
+public class RefreshTokenRepositoryTest {
+
+    private static final String USER_ID = "1";
+
+    private static EmbeddedRedis redis;
+
+    private RefreshTokenRepository repository;
+
+    @BeforeAll
+    public static void startRedis() throws Exception {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    public static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        redis.flush();
+        repository = new RefreshTokenRepository(redis.getRedisTemplate(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("ROTATED : 함께 발급된 Access Token으로 교체")
+    public void givenIssuedPair_whenRotate_thenRotated() {
+        repository.save(refreshToken("refresh-1"), "access-1");
+
+        Rotation rotation = repository.rotate("access-1", refreshToken("refresh-2"), "access-2");
+
+        assertThat(rotation.getStatus()).isEqualTo(RotationStatus.ROTATED);
+        assertThat(rotation.getAccessToken()).isEqualTo("access-2");
+        assertThat(repository.findById(USER_ID)).get().extracting(Token::getToken).isEqualTo("refresh-2");
+    }
+
+    @Test
+    @DisplayName("GRACE : 교체 직후 같은 토큰으로 재요청하면 이미 발급된 Access Token 반환")
+    public void givenJustRotated_whenRotateAgain_thenGrace() {
+        repository.save(refreshToken("refresh-1"), "access-1");
+        repository.rotate("access-1", refreshToken("refresh-2"), "access-2");
+
+        Rotation rotation = repository.rotate("access-1", refreshToken("refresh-3"), "access-3");
+
+        assertThat(rotation.getStatus()).isEqualTo(RotationStatus.GRACE);
+        assertThat(rotation.getAccessToken()).isEqualTo("access-2");
+        assertThat(repository.findById(USER_ID)).get().extracting(Token::getToken).isEqualTo("refresh-2");
+    }
+
+    @Test
+    @DisplayName("REUSED : 허용 시간 이후 교체된 토큰 재사용 => 현재 토큰 삭제")
+    public void givenRotatedToken_whenReusedAfterGrace_thenReusedAndRevoked() {
+        repository.save(refreshToken("refresh-1"), "access-1");
+        repository.rotate("access-1", refreshToken("refresh-2"), "access-2");
+
+        // 동시 요청 허용 시간 만료
+        redis.getRedisTemplate().delete("rt:grace:" + RefreshTokenRepository.fingerprint("access-1"));
+
+        Rotation rotation = repository.rotate("access-1", refreshToken("refresh-3"), "access-3");
+
+        assertThat(rotation.getStatus()).isEqualTo(RotationStatus.REUSED);
+        assertThat(rotation.getAccessToken()).isNull();
+        assertThat(repository.findById(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NONE : 저장된 토큰이 없거나, 함께 발급되지 않은 Access Token")
+    public void givenNoOrOtherToken_whenRotate_thenNone() {
+        assertThat(repository.rotate("access-1", refreshToken("refresh-2"), "access-2").getStatus()).isEqualTo(RotationStatus.NONE);
+
+        repository.save(refreshToken("refresh-1"), "access-1");
+
+        assertThat(repository.rotate("access-other", refreshToken("refresh-2"), "access-2").getStatus()).isEqualTo(RotationStatus.NONE);
+        assertThat(repository.findById(USER_ID)).get().extracting(Token::getToken).isEqualTo("refresh-1");
+    }
+
+    @Test
+    @DisplayName("이전 형식(지문 없음) : 교체 후 지문이 있는 형식으로 저장")
+    public void givenLegacyValue_whenRotate_thenRotatedWithFingerprint() {
+        redis.getRedisTemplate().opsForValue().set(RefreshTokenRepository.KEY_PREFIX + USER_ID, "refresh-legacy", 1, TimeUnit.MINUTES);
+
+        Rotation rotation = repository.rotate("access-1", refreshToken("refresh-2"), "access-2");
+
+        assertThat(rotation.getStatus()).isEqualTo(RotationStatus.ROTATED);
+        assertThat(redis.getRedisTemplate().opsForValue().get(RefreshTokenRepository.KEY_PREFIX + USER_ID))
+                .isEqualTo(RefreshTokenRepository.fingerprint("access-2") + ":refresh-2");
+
+        // 교체 후에는 새 Access Token으로만 교체 가능
+        redis.getRedisTemplate().delete("rt:grace:" + RefreshTokenRepository.fingerprint("access-1"));
+        assertThat(repository.rotate("access-other", refreshToken("refresh-3"), "access-3").getStatus()).isEqualTo(RotationStatus.NONE);
+    }
+
+    private static Token refreshToken(String token) {
+        return Token.builder()
+                .key(USER_ID)
+                .token(token)
+                .tokenExpireTime(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10)))
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.mmserver.service;
+
+import com.mmserver.domain.model.Auction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 입찰 기록 일괄 저장 테스트
+ * (JdbcTemplate Mock으로 실행된 SQL, 저장 순서 확인)
+ */
+public class BidBatchWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private BidBatchWriter writer;
+
+    /**
+     * 실행된 INSERT 별 (item_id, sort_no)
+     */
+    private final List<List<String>> statements = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            List<String> rows = new ArrayList<>();
+            PreparedStatement ps = mock(PreparedStatement.class);
+
+            // (item_id, sort_no) 순서 기록
+            List<Long> values = new ArrayList<>();
+            doAnswer(set -> values.add(set.getArgument(1))).when(ps).setLong(anyInt(), anyLong());
+
+            ((PreparedStatementSetter) invocation.getArgument(1)).setValues(ps);
+
+            for (int i = 0; i < values.size(); i += 4) {
+                rows.add(values.get(i) + "-" + values.get(i + 1));
+            }
+
+            statements.add(rows);
+            return rows.size();
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if(writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 저장 : 한번의 INSERT, (item_id, sort_no) 순서")
+    public void givenBids_whenFlush_thenSingleOrderedInsert() throws Exception {
+        writer = writer(Duration.ofMillis(200));
+
+        CompletableFuture<Void> first  = writer.offer(auction(2L, 1L), 1L);
+        CompletableFuture<Void> second = writer.offer(auction(1L, 2L), 1L);
+        CompletableFuture<Void> third  = writer.offer(auction(1L, 1L), 1L);
+
+        CompletableFuture.allOf(first, second, third).get(1, TimeUnit.SECONDS);
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0)).containsExactly("1-1", "1-2", "2-1");
+    }
+
+    @Test
+    @DisplayName("중복 포함 : 한 건씩 저장해서 중복된 기록만 실패")
+    public void givenDuplicate_whenFlush_thenOnlyDuplicateFails() throws Exception {
+        // Multi-Row INSERT => 중복, 한 건씩 => 성공, 중복
+        doThrow(new DuplicateKeyException("duplicate"))
+                .doReturn(1)
+                .doThrow(new DuplicateKeyException("duplicate"))
+                .when(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+
+        writer = writer(Duration.ofMillis(200));
+
+        CompletableFuture<Void> saved     = writer.offer(auction(1L, 1L), 1L);
+        CompletableFuture<Void> duplicate = writer.offer(auction(1L, 2L), 1L);
+
+        saved.get(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> duplicate.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("두 노드에서 같은 순서 발급 : 중복된 노드는 다시 조회하기 전 상태로 발급한 이후 기록도 저장하지 않음")
+    public void givenStaleWriter_whenDuplicate_thenLaterStaleBidsFail() throws Exception {
+        // (item_id, sort_no) Primary Key가 있는 공용 DB
+        Map<String, Long> table = new ConcurrentHashMap<>();
+        BidBatchWriter owner = writer(Duration.ofMillis(1), database(table));
+        BidBatchWriter stale = writer(Duration.ofMillis(200), database(table));
+
+        try {
+            owner.offer(Auction.of(1L, 6L, 10L, 2000L, LocalDateTime.now()), 1L).get(1, TimeUnit.SECONDS);
+
+            // 이전 상태(버전 1)로 발급한 6, 7 => 같은 일괄 저장에서 중복 이후 기록까지 실패
+            CompletableFuture<Void> duplicate = stale.offer(Auction.of(1L, 6L, 20L, 1500L, LocalDateTime.now()), 1L);
+            CompletableFuture<Void> next      = stale.offer(Auction.of(1L, 7L, 20L, 1600L, LocalDateTime.now()), 1L);
+
+            assertThatThrownBy(() -> duplicate.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+            assertThatThrownBy(() -> next.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+            // 다음 일괄 저장에서도 다시 조회하기 전 상태로 발급한 기록은 실패
+            CompletableFuture<Void> later = stale.offer(Auction.of(1L, 8L, 20L, 1700L, LocalDateTime.now()), 1L);
+            assertThatThrownBy(() -> later.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+            // 다시 조회한 상태(버전 2)로 발급한 기록은 저장
+            stale.offer(Auction.of(1L, 7L, 20L, 2100L, LocalDateTime.now()), 2L).get(1, TimeUnit.SECONDS);
+
+            assertThat(table).containsOnlyKeys("1-6", "1-7");
+            assertThat(table.get("1-6")).isEqualTo(2000L);
+            assertThat(table.get("1-7")).isEqualTo(2100L);
+        } finally {
+            owner.shutdown();
+            stale.shutdown();
+        }
+    }
+
+    private BidBatchWriter writer(Duration flushInterval) {
+        return writer(flushInterval, jdbcTemplate);
+    }
+
+    private static BidBatchWriter writer(Duration flushInterval, JdbcTemplate jdbcTemplate) {
+        return new BidBatchWriter(100, 500, flushInterval, Duration.ofMillis(50), Duration.ofMillis(5),
+                Duration.ofMillis(100), 3, jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    /**
+     * (item_id, sort_no) 중복 시 INSERT 전체가 실패하는 JdbcTemplate
+     *
+     * @param  table        : 저장된 기록((item_id-sort_no) => 입찰가)
+     * @return JdbcTemplate : JdbcTemplate Mock
+     */
+    private static JdbcTemplate database(Map<String, Long> table) {
+        JdbcTemplate database = mock(JdbcTemplate.class);
+
+        when(database.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            PreparedStatement ps = mock(PreparedStatement.class);
+
+            // (item_id, sort_no, id, bid) 순서 기록
+            List<Long> values = new ArrayList<>();
+            doAnswer(set -> values.add(set.getArgument(1))).when(ps).setLong(anyInt(), anyLong());
+
+            ((PreparedStatementSetter) invocation.getArgument(1)).setValues(ps);
+
+            synchronized (table) {
+                Map<String, Long> rows = new LinkedHashMap<>();
+
+                for (int i = 0; i < values.size(); i += 4) {
+                    String key = values.get(i) + "-" + values.get(i + 1);
+
+                    if(table.containsKey(key) || rows.put(key, values.get(i + 3)) != null) {
+                        throw new DuplicateKeyException("duplicate : " + key);
+                    }
+                }
+
+                table.putAll(rows);
+                return rows.size();
+            }
+        });
+
+        return database;
+    }
+
+    private static Auction auction(Long itemId, Long sortNo) {
+        return Auction.of(itemId, sortNo, 10L, 1000L + sortNo, LocalDateTime.now());
+    }
+}
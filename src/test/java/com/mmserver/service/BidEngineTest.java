@@ -0,0 +1,211 @@
+package com.mmserver.service;
+
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.domain.model.Item;
+import com.mmserver.exception.BidNotSavedException;
+import com.mmserver.exception.InvalidBidException;
+import com.mmserver.exception.TooManyRequestsException;
+import com.mmserver.repository.AuctionRepository;
+import com.mmserver.repository.ItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 입찰 처리 Engine 테스트
+ */
+public class BidEngineTest {
+
+    private static final Long ITEM_ID = 1L;
+
+    private static final Long SELLER_ID = 100L;
+
+    private ItemRepository itemRepository;
+
+    private AuctionRepository auctionRepository;
+
+    private BidBatchWriter bidBatchWriter;
+
+    private BidEngine bidEngine;
+
+    @BeforeEach
+    public void setup() {
+        itemRepository    = mock(ItemRepository.class);
+        auctionRepository = mock(AuctionRepository.class);
+
+        when(itemRepository.findById(ITEM_ID)).thenReturn(Optional.of(item(ITEM_ID, LocalDateTime.now().minusMinutes(1))));
+        when(auctionRepository.findTopByItemIdOrderBySortNoDesc(anyLong())).thenReturn(Optional.empty());
+
+        bidBatchWriter = mock(BidBatchWriter.class);
+        when(bidBatchWriter.offer(any(), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+
+        bidEngine = new BidEngine(2, 1024, 100, Duration.ofSeconds(1), true, Duration.ofSeconds(1),
+                bidBatchWriter, mock(BidEventBus.class), itemRepository, auctionRepository, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        bidEngine.shutdown();
+    }
+
+    @Test
+    @DisplayName("입찰 성공 : 입찰 순서 발급, 경매 정보는 처음 입찰 시 한번만 조회")
+    public void givenHigherBids_whenBid_thenSequenced() {
+        BidResultDto first  = bidEngine.bid(ITEM_ID, 1L, 1000);
+        BidResultDto second = bidEngine.bid(ITEM_ID, 2L, 1100);
+
+        assertThat(first.getSortNo()).isEqualTo(1);
+        assertThat(second.getSortNo()).isEqualTo(2);
+        assertThat(second.getBidCount()).isEqualTo(2);
+        verify(itemRepository, times(1)).findById(ITEM_ID);
+    }
+
+    @Test
+    @DisplayName("입찰 실패 : 현재 입찰가 이하, 본인 경매")
+    public void givenInvalidBid_whenBid_thenFail() {
+        bidEngine.bid(ITEM_ID, 1L, 1000);
+
+        assertThatThrownBy(() -> bidEngine.bid(ITEM_ID, 2L, 1000)).isInstanceOf(InvalidBidException.class);
+        assertThatThrownBy(() -> bidEngine.bid(ITEM_ID, SELLER_ID, 2000)).isInstanceOf(InvalidBidException.class);
+    }
+
+    @Test
+    @DisplayName("입찰 실패 : 시작 가격이 0인 경매에 0 이하 입찰")
+    public void givenFreeItem_whenNonPositiveBid_thenFail() {
+        Item free = item(2L, LocalDateTime.now().minusMinutes(1));
+        ReflectionTestUtils.setField(free, "price", 0L);
+        when(itemRepository.findById(2L)).thenReturn(Optional.of(free));
+
+        assertThatThrownBy(() -> bidEngine.bid(2L, 1L, 0)).isInstanceOf(InvalidBidException.class);
+        assertThatThrownBy(() -> bidEngine.bid(2L, 1L, -100)).isInstanceOf(InvalidBidException.class);
+        assertThat(bidEngine.bid(2L, 1L, 1).getSortNo()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입찰 실패 : 경매 시작 전")
+    public void givenNotStartedItem_whenBid_thenFail() {
+        when(itemRepository.findById(2L)).thenReturn(Optional.of(item(2L, LocalDateTime.now().plusHours(1))));
+
+        assertThatThrownBy(() -> bidEngine.bid(2L, 1L, 1000))
+                .isInstanceOf(InvalidBidException.class)
+                .hasMessageContaining("시작 전");
+    }
+
+    @Test
+    @DisplayName("입찰 실패 : 저장 실패 시 경매 상태 다시 조회")
+    public void givenWriteFailure_whenBid_thenFailAndReload() {
+        when(bidBatchWriter.offer(any(), anyLong())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("write failed")));
+
+        assertThatThrownBy(() -> bidEngine.bid(ITEM_ID, 1L, 1000)).isInstanceOf(BidNotSavedException.class);
+
+        when(bidBatchWriter.offer(any(), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(bidEngine.bid(ITEM_ID, 1L, 1000).getSortNo()).isEqualTo(1);
+        verify(itemRepository, times(2)).findById(ITEM_ID);
+    }
+
+    @Test
+    @DisplayName("입찰 실패 : 저장 대기열 초과")
+    public void givenFullWriteQueue_whenBid_thenFail() {
+        when(bidBatchWriter.offer(any(), anyLong())).thenReturn(null);
+
+        assertThatThrownBy(() -> bidEngine.bid(ITEM_ID, 1L, 1000)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 : 이미 처리 시작된 입찰은 거절하지 않고 결과 반환")
+    public void givenStartedBid_whenTimeout_thenAccepted() throws InterruptedException {
+        BidEngine slowEngine = new BidEngine(1, 16, 100, Duration.ofMillis(100), true, Duration.ofSeconds(1),
+                bidBatchWriter, mock(BidEventBus.class), itemRepository, auctionRepository, new SimpleMeterRegistry());
+
+        // Shard 처리 중 대기 시간 초과
+        when(bidBatchWriter.offer(any(), anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        try {
+            assertThat(slowEngine.bid(ITEM_ID, 1L, 1000).getSortNo()).isEqualTo(1);
+        } finally {
+            slowEngine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 입찰 : 같은 경매의 입찰 순서는 중복 없이 연속")
+    public void givenConcurrentBids_whenBid_thenUniqueSortNo() throws Exception {
+        int bids = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+
+        for (int i = 0; i < bids; i++) {
+            long amount = 1000 + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return bidEngine.bid(ITEM_ID, 1L, amount).getSortNo();
+                } catch (InvalidBidException e) {
+                    // 더 높은 입찰이 먼저 처리된 경우
+                    return null;
+                }
+            }));
+        }
+
+        start.countDown();
+
+        Set<Long> sortNos = ConcurrentHashMap.newKeySet();
+        int accepted = 0;
+
+        for (Future<Long> future : futures) {
+            Long sortNo = future.get(5, TimeUnit.SECONDS);
+            if(sortNo != null) {
+                accepted++;
+                sortNos.add(sortNo);
+            }
+        }
+
+        executor.shutdown();
+
+        long lastSortNo = accepted;
+
+        assertThat(sortNos).hasSize(accepted);
+        assertThat(sortNos).allMatch(sortNo -> sortNo >= 1 && sortNo <= lastSortNo);
+    }
+
+    private static Item item(Long id, LocalDateTime strDate) {
+        Item item = new Item();
+        ReflectionTestUtils.setField(item, "id", id);
+        ReflectionTestUtils.setField(item, "userId", SELLER_ID);
+        ReflectionTestUtils.setField(item, "price", 1000L);
+        ReflectionTestUtils.setField(item, "strDate", strDate);
+
+        return item;
+    }
+}
@@ -0,0 +1,159 @@
+package com.mmserver.service;
+
+import com.mmserver.EmbeddedRedis;
+import com.mmserver.config.cluster.NodeIdentity;
+import com.mmserver.domain.BidResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 노드 간 입찰 Event 전달 테스트
+ * (내장 Redis, 재시작 시 확인하지 못한 Event 처리, 확인(XACK))
+ */
+public class BidEventBusRedisTest {
+
+    private static final String STREAM_KEY = "auction:bids";
+
+    private static final String GROUP = "node:node-b";
+
+    private static EmbeddedRedis redis;
+
+    private StringRedisTemplate redisTemplate;
+
+    private final List<BidEventBus> started = new ArrayList<>();
+
+    private final List<Long> received = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void startRedis() throws Exception {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    public static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        redis.flush();
+        redisTemplate = redis.getRedisTemplate();
+
+        // Group 생성 전 Event(새 Group은 이후 Event부터 읽음)
+        add(price(0));
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.latest(), GROUP);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        for (BidEventBus bus : started) {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 : 받았지만 확인하지 못한 Event를 먼저 처리한 후 새 Event 처리, 모두 확인")
+    public void givenPendingEvents_whenRestart_thenReplayedAndAcknowledged() throws Exception {
+        add(price(1));
+        add(price(2));
+
+        // 받은 후 확인 전에 종료된 경우
+        List<MapRecord<String, Object, Object>> delivered = redisTemplate.opsForStream().read(Consumer.from(GROUP, "node-b"),
+                StreamReadOptions.empty().count(10),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+
+        assertThat(delivered).hasSize(2);
+        assertThat(pending()).isEqualTo(2);
+
+        add(price(3));
+
+        start("node-b").onRemoteBid(price -> received.add(price.getSortNo()));
+
+        await(() -> received.size() >= 3 && pending() == 0);
+
+        assertThat(received).containsExactly(1L, 2L, 3L);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 추가한 Event : 전달 후 확인, 추가한 노드에는 다시 전달하지 않음")
+    public void givenPublishedEvent_whenConsume_thenDeliveredOnceAndAcknowledged() throws Exception {
+        List<Long> own = new CopyOnWriteArrayList<>();
+
+        BidEventBus nodeA = start("node-a");
+        nodeA.onRemoteBid(price -> own.add(price.getSortNo()));
+        start("node-b").onRemoteBid(price -> received.add(price.getSortNo()));
+
+        // node-a Group 생성 후 추가
+        await(() -> redisTemplate.opsForStream().groups(STREAM_KEY).size() == 2);
+        nodeA.publish(price(1));
+
+        await(() -> received.size() >= 1 && pending() == 0);
+
+        assertThat(received).containsExactly(1L);
+        assertThat(pending()).isZero();
+        assertThat(own).isEmpty();
+    }
+
+    private BidEventBus start(String nodeId) {
+        BidEventBus bus = new BidEventBus(true, 100, 10, Duration.ofMillis(100), 1000, Duration.ofMillis(100),
+                new NodeIdentity(nodeId, 8080), redisTemplate, mock(BidSubscriptionService.class),
+                new SimpleMeterRegistry());
+        bus.start();
+        started.add(bus);
+
+        return bus;
+    }
+
+    private void add(BidResultDto price) {
+        BidEventBus origin = new BidEventBus(false, 1, 1, Duration.ofMillis(100), 1000, Duration.ofMillis(100),
+                new NodeIdentity("node-c", 8080), redisTemplate, mock(BidSubscriptionService.class),
+                new SimpleMeterRegistry());
+
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(origin.toFields(price)));
+    }
+
+    private long pending() {
+        return redisTemplate.opsForStream().pending(STREAM_KEY, GROUP).getTotalPendingMessages();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private static BidResultDto price(long sortNo) {
+        return BidResultDto.builder()
+                .itemId(1L)
+                .sortNo(sortNo)
+                .bid(1000 + sortNo)
+                .bidCount(sortNo)
+                .bidDate(LocalDateTime.of(2022, 8, 1, 12, 0, 30))
+                .build();
+    }
+}
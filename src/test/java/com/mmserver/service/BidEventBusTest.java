@@ -0,0 +1,95 @@
+package com.mmserver.service;
+
+import com.mmserver.config.cluster.NodeIdentity;
+import com.mmserver.domain.BidResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 노드 간 입찰 Event 전달 테스트
+ * (Stream 필드 변환, 발생 노드 별 전달 여부 확인)
+ */
+public class BidEventBusTest {
+
+    private BidSubscriptionService bidSubscriptionService;
+
+    private BidEventBus local;
+
+    private BidEventBus remote;
+
+    private final List<BidResultDto> received = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        bidSubscriptionService = mock(BidSubscriptionService.class);
+
+        local  = bus("node-a");
+        remote = bus("node-b");
+        local.onRemoteBid(received::add);
+    }
+
+    @Test
+    @DisplayName("다른 노드 Event : 구독자, 수신자에게 전달")
+    public void givenRemoteEvent_whenReceive_thenDelivered() {
+        BidResultDto price = price();
+
+        local.receive(new HashMap<>(remote.toFields(price)));
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0)).usingRecursiveComparison().isEqualTo(price);
+        verify(bidSubscriptionService).publish(any());
+    }
+
+    @Test
+    @DisplayName("현재 노드 Event : 이미 전달했으므로 제외")
+    public void givenOwnEvent_whenReceive_thenIgnored() {
+        Map<Object, Object> fields = new HashMap<>(local.toFields(price()));
+
+        local.receive(fields);
+
+        assertThat(received).isEmpty();
+        verify(bidSubscriptionService, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("노드 식별 값 설정 없이 Stream 사용 : 시작 실패")
+    public void givenEnabledWithoutNodeId_whenCreate_thenFail() {
+        assertThatThrownBy(() -> new BidEventBus(true, 100, 10, Duration.ofMillis(100), 1000, Duration.ofMillis(100),
+                new NodeIdentity("", 8080), mock(StringRedisTemplate.class), bidSubscriptionService,
+                new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private BidEventBus bus(String nodeId) {
+        return new BidEventBus(false, 100, 10, Duration.ofMillis(100), 1000, Duration.ofMillis(100),
+                new NodeIdentity(nodeId, 8080), mock(StringRedisTemplate.class), bidSubscriptionService,
+                new SimpleMeterRegistry());
+    }
+
+    private static BidResultDto price() {
+        return BidResultDto.builder()
+                .itemId(1L)
+                .sortNo(3)
+                .bid(1500)
+                .bidCount(3)
+                .bidDate(LocalDateTime.of(2022, 8, 1, 12, 0, 30))
+                .build();
+    }
+}
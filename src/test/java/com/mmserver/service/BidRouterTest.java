@@ -0,0 +1,102 @@
+package com.mmserver.service;
+
+import com.mmserver.config.cluster.ClusterMembership;
+import com.mmserver.config.cluster.ClusterNode;
+import com.mmserver.config.cluster.ClusterSecretFilter;
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.exception.InvalidBidException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 입찰 전달 테스트
+ * (담당 노드 응답은 MockRestServiceServer로 대체)
+ */
+public class BidRouterTest {
+
+    private static final ClusterNode OWNER = new ClusterNode("owner", "http://owner:8080");
+
+    private BidEngine bidEngine;
+
+    private MockRestServiceServer server;
+
+    private BidRouter bidRouter;
+
+    @BeforeEach
+    public void setup() {
+        bidEngine = mock(BidEngine.class);
+
+        ClusterMembership clusterMembership = mock(ClusterMembership.class);
+        when(clusterMembership.ownerOf(1L)).thenReturn(OWNER);
+        when(clusterMembership.isSelf(OWNER)).thenReturn(false);
+
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+
+        bidRouter = new BidRouter("secret", Duration.ofMillis(300), Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(2), bidEngine,
+                clusterMembership, new RestTemplateBuilder(customizer), new SimpleMeterRegistry());
+        server = customizer.getServer();
+    }
+
+    @Test
+    @DisplayName("다른 노드 담당 : Cluster Secret과 함께 담당 노드로 전달")
+    public void givenRemoteOwner_whenBid_thenForwarded() {
+        server.expect(requestTo("http://owner:8080/internal/auction/1/bid"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(ClusterSecretFilter.SECRET_HEADER, "secret"))
+                .andExpect(content().json("{\"bidderId\":10,\"bid\":1500}"))
+                .andRespond(withSuccess("{\"itemId\":1,\"sortNo\":3,\"bid\":1500,\"bidCount\":3}", MediaType.APPLICATION_JSON));
+
+        BidResultDto result = bidRouter.bid(1L, 10L, 1500);
+
+        assertThat(result.getSortNo()).isEqualTo(3);
+        verify(bidEngine, never()).bid(any(), any(), anyLong());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("담당 노드 입찰 실패 : 같은 예외로 변환")
+    public void givenOwnerConflict_whenBid_thenInvalidBid() {
+        server.expect(requestTo("http://owner:8080/internal/auction/1/bid"))
+                .andRespond(withStatus(HttpStatus.CONFLICT)
+                        .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                        .body("현재 입찰가(2000)보다 높은 금액으로 입찰해주세요."));
+
+        assertThatThrownBy(() -> bidRouter.bid(1L, 10L, 1500))
+                .isInstanceOf(InvalidBidException.class)
+                .hasMessageContaining("2000");
+    }
+
+    @Test
+    @DisplayName("응답 대기 시간 : 담당 노드의 입찰 대기 + 처리 중인 입찰 대기 + 저장 대기보다 길게")
+    public void givenDefaults_whenReadTimeout_thenLongerThanOwnerWait() {
+        Duration readTimeout = BidRouter.readTimeout(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(2));
+
+        assertThat(readTimeout).isGreaterThan(Duration.ofSeconds(5));
+    }
+}
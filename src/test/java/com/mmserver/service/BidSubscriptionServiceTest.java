@@ -0,0 +1,205 @@
+package com.mmserver.service;
+
+import com.mmserver.domain.BidResultDto;
+import com.mmserver.domain.model.Item;
+import com.mmserver.repository.AuctionRepository;
+import com.mmserver.repository.ItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경매 가격 실시간 전송 테스트
+ * (SseEmitter 전송을 기록하는 Emitter로 대체, 전송 Thread 1개)
+ */
+public class BidSubscriptionServiceTest {
+
+    private static final Long ITEM_ID = 1L;
+
+    private static final Long OTHER_ITEM_ID = 2L;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BidSubscriptionService service;
+
+    /**
+     * 다음 구독에 사용할 Emitter
+     */
+    private final BlockingQueue<RecordingEmitter> emitters = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    public void setup() {
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        AuctionRepository auctionRepository = mock(AuctionRepository.class);
+
+        Item item = new Item();
+        ReflectionTestUtils.setField(item, "price", 1000L);
+        ReflectionTestUtils.setField(item, "strDate", LocalDateTime.now());
+
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
+        when(auctionRepository.findTopByItemIdOrderBySortNoDesc(anyLong())).thenReturn(Optional.empty());
+
+        meterRegistry = new SimpleMeterRegistry();
+        service = new BidSubscriptionService(1, Duration.ofMinutes(1), 100, Duration.ofMillis(100),
+                itemRepository, auctionRepository, meterRegistry) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return emitters.remove();
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송 중 변경된 가격 : 최신 입찰 순서로 교체해서 한번만 전송")
+    public void givenPricesWhileSending_whenDrain_thenLatestOnly() throws Exception {
+        RecordingEmitter emitter = subscribe(ITEM_ID, false);
+        emitter.entered.await(1, TimeUnit.SECONDS);
+
+        service.publish(price(ITEM_ID, 2));
+        service.publish(price(ITEM_ID, 3));
+        service.publish(price(ITEM_ID, 4));
+        emitter.release.countDown();
+
+        assertThat(emitter.next()).contains("id:0");
+        assertThat(emitter.next()).contains("id:4");
+        assertThat(emitter.next()).isNull();
+        assertThat(meterRegistry.counter("auction.subscription.coalesced").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송할 가격이 있는 구독자 : Heartbeat 생략")
+    public void givenPendingPrice_whenHeartbeat_thenSkipped() throws Exception {
+        RecordingEmitter emitter = subscribe(ITEM_ID, false);
+        emitter.entered.await(1, TimeUnit.SECONDS);
+
+        service.publish(price(ITEM_ID, 2));
+        service.heartbeat();
+        emitter.release.countDown();
+
+        assertThat(emitter.next()).contains("id:0");
+        assertThat(emitter.next()).contains("id:2").doesNotContain("heartbeat");
+        assertThat(emitter.next()).isNull();
+
+        // 전송할 가격이 없으면 Heartbeat 전송
+        service.heartbeat();
+
+        assertThat(emitter.next()).contains("heartbeat");
+    }
+
+    @Test
+    @DisplayName("이전 가격 : 최신 가격 전송 후에는 전송하지 않음")
+    public void givenOlderPrice_whenPublish_thenNotSent() throws Exception {
+        RecordingEmitter emitter = subscribe(ITEM_ID, true);
+
+        assertThat(emitter.next()).contains("id:0");
+
+        service.publish(price(ITEM_ID, 5));
+        assertThat(emitter.next()).contains("id:5");
+
+        service.publish(price(ITEM_ID, 3));
+        service.publish(price(ITEM_ID, 5));
+        assertThat(emitter.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("전송 시간 초과 : 느린 구독 종료, 다른 구독자 전송 유지")
+    public void givenBlockedSend_whenExpire_thenOthersStillServed() throws Exception {
+        RecordingEmitter slow = subscribe(ITEM_ID, false);
+        slow.entered.await(1, TimeUnit.SECONDS);
+
+        RecordingEmitter other = subscribe(OTHER_ITEM_ID, true);
+
+        Thread.sleep(200);
+        service.expireSlowSends();
+
+        assertThat(other.next()).contains("id:0");
+
+        service.publish(price(OTHER_ITEM_ID, 1));
+        assertThat(other.next()).contains("id:1");
+        assertThat(meterRegistry.counter("auction.subscription.slow").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auction.subscription.subscribers").gauge().value()).isEqualTo(1);
+    }
+
+    private RecordingEmitter subscribe(Long itemId, boolean released) {
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        if(released) {
+            emitter.release.countDown();
+        }
+
+        emitters.add(emitter);
+        service.subscribe(itemId);
+
+        return emitter;
+    }
+
+    private static BidResultDto price(Long itemId, long sortNo) {
+        return BidResultDto.builder()
+                .itemId(itemId)
+                .sortNo(sortNo)
+                .bid(1000 + sortNo)
+                .bidCount(sortNo)
+                .bidDate(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 전송 내용을 기록하는 Emitter
+     * (release 전까지 전송 대기)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("interrupted");
+            }
+
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                text.append(data.getData());
+            }
+
+            sent.add(text.toString());
+        }
+
+        private String next() throws InterruptedException {
+            return sent.poll(300, TimeUnit.MILLISECONDS);
+        }
+    }
+}
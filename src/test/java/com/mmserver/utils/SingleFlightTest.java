@@ -0,0 +1,97 @@
+package com.mmserver.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 호출 합치기 테스트
+ */
+public class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실행 중인 호출 : 결과 공유, 한번만 실행")
+    public void givenRunningCall_whenExecute_thenSharedResult() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(run(() -> {
+            calls.incrementAndGet();
+            return "result";
+        })).containsExactly("result", "result");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실행 중 Error : 기다리는 요청도 같은 Error로 종료")
+    public void givenError_whenExecute_thenWaiterFails() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw new StackOverflowError("loader");
+        }));
+
+        started.await(1, TimeUnit.SECONDS);
+        Future<String> waiter = executor.submit(() -> singleFlight.execute("key", () -> "other"));
+
+        // 두번째 요청이 실행 중인 호출을 기다릴 때까지 대기
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> waiter.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+    }
+
+    private String[] run(java.util.function.Supplier<String> supplier) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return supplier.get();
+        }));
+
+        started.await(1, TimeUnit.SECONDS);
+        Future<String> second = executor.submit(() -> singleFlight.execute("key", supplier));
+
+        Thread.sleep(100);
+        release.countDown();
+
+        return new String[] {first.get(1, TimeUnit.SECONDS), second.get(1, TimeUnit.SECONDS)};
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}